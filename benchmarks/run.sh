@@ -0,0 +1,8 @@
+#!/bin/sh
+# Builds the benchmarks and prints the report of the serializers and the worker kernels,
+# the arguments are passed to JMH, e.g. "benchmarks/run.sh WorkerBenchmark -p n=10000"
+set -e
+cd "$(dirname "$0")/.."
+./mvnw -q -pl benchmarks -am package -DskipTests
+java -cp benchmarks/target/benchmarks.jar mykhalishyn.akka.cluster.demo.benchmark.BenchmarkReport \
+    -rff benchmarks/target/jmh-result.json "$@"
@@ -0,0 +1,99 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the benchmarks of the serializers, the worker kernels and the Reactor bridging with the GC profiler
+ * and prints the report: the score and the bytes allocated per operation of every benchmark.
+ * The results are kept in {@value #RESULT_FILE} too, so two runs can be compared for regressions.
+ * <p>
+ * The arguments are the arguments of JMH, e.g. {@code WorkerBenchmark -f 2}, without a benchmark
+ * the benchmarks of {@link #DEFAULT_INCLUDES} run, {@link RemotingBenchmark} starts a second JVM
+ * and is only run when asked for.
+ * <p>
+ * {@code benchmarks/run.sh}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class BenchmarkReport {
+
+    static final String RESULT_FILE = "jmh-result.json";
+
+    private static final String[] DEFAULT_INCLUDES = {
+            SerializerBenchmark.class.getSimpleName(),
+            CompressionBenchmark.class.getSimpleName(),
+            FactorialBenchmark.class.getSimpleName(),
+            WorkerBenchmark.class.getSimpleName(),
+            BridgeBenchmark.class.getSimpleName()
+    };
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    public static void main(final String[] args) throws Exception {
+        final CommandLineOptions cli = new CommandLineOptions(args);
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (cli.getIncludes().isEmpty()) {
+            for (String include : DEFAULT_INCLUDES) {
+                options.include(include);
+            }
+        }
+        if (cli.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result(RESULT_FILE);
+        }
+        print(new Runner(options.build()).run());
+    }
+
+    private static void print(final Collection<RunResult> results) {
+        final List<RunResult> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparing(result -> result.getParams().id()));
+        System.out.println();
+        System.out.println(String.format("%-45s %-6s %-30s %15s %12s %-8s %15s",
+                "Benchmark", "Mode", "Params", "Score", "Error", "Units", "Alloc B/op"));
+        for (RunResult result : sorted) {
+            final BenchmarkParams params = result.getParams();
+            final Result primary = result.getPrimaryResult();
+            System.out.println(String.format("%-45s %-6s %-30s %15.3f %12.3f %-8s %15s",
+                    name(params.getBenchmark()), params.getMode().shortLabel(),
+                    params.getParamsKeys().stream()
+                            .map(key -> key + "=" + params.getParam(key))
+                            .collect(Collectors.joining(" ")),
+                    primary.getScore(), primary.getScoreError(), primary.getScoreUnit(),
+                    allocation(result.getSecondaryResults())));
+        }
+    }
+
+    private static String name(final String benchmark) {
+        // the class and the method, without the package
+        final int method = benchmark.lastIndexOf('.');
+        return benchmark.substring(benchmark.lastIndexOf('.', method - 1) + 1);
+    }
+
+    private static String allocation(final Map<String, Result> secondaryResults) {
+        return secondaryResults.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(ALLOCATION))
+                .findFirst()
+                .map(entry -> String.format("%.1f", entry.getValue().getScore()))
+                .orElse("-");
+    }
+}
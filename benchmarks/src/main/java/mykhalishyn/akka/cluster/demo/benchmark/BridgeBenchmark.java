@@ -0,0 +1,161 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.actor.WorkAggregatorActor;
+import mykhalishyn.akka.cluster.demo.dto.TaskStatus;
+import mykhalishyn.akka.cluster.demo.hedge.HedgingPolicy;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.limit.AdaptiveConcurrencyLimiter;
+import mykhalishyn.akka.cluster.demo.timing.TaskTimings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Await;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of the bridging of a {@code /work} request between Reactor and the actors, without the work:
+ * the worker is a local echo actor that answers every task at once, so the score is the plumbing
+ * the web node spends on a request of {@code fanOut} tasks.
+ * <p>
+ * {@code ask} is the per-task path the router used to have: an ask of every task, converted
+ * with {@code FutureConverters.toJava} and {@code Mono.fromCompletionStage} and concatenated with {@code Flux.concat}.
+ * {@code aggregator} is the current path of {@code RouterConfig}: a {@link WorkAggregatorActor} dispatches
+ * the chunks of the tasks and pushes the statuses into the sink of {@code Flux.create}, with the chunk size
+ * and the chunks in flight of the default configuration. The throughput and the sample time are reported,
+ * the allocation with the GC profiler, which only counts the thread of the request, not the dispatcher of the actors.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar BridgeBenchmark -prof gc}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BridgeBenchmark {
+
+    private static final FiniteDuration TIMEOUT = FiniteDuration.create(10, TimeUnit.SECONDS);
+
+    // work.dispatch.max-in-flight and work.dispatch.batch-size of the web demo
+    private static final int MAX_IN_FLIGHT = 64;
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1", "10", "100", "1000"})
+    private int fanOut;
+
+    private ActorSystem system;
+
+    private ActorRef echo;
+
+    private List<Task> tasks;
+
+    private TaskBatch template;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private HedgingPolicy hedging;
+
+    private TaskTimings timings;
+
+    @Setup
+    public void setUp() {
+        system = ActorSystem.create("BridgeBenchmark", WorkerBenchmark.config());
+        echo = system.actorOf(Props.create(Echo.class, Echo::new));
+        tasks = IntStream.range(0, fanOut)
+                .mapToObj(index -> Task.newBuilder()
+                        .setIndex(index)
+                        .setComputation(KernelRegistry.DEFAULT_COMPUTATION)
+                        .build())
+                .collect(Collectors.toList());
+        template = TaskBatch.newBuilder().setComputation(KernelRegistry.DEFAULT_COMPUTATION).build();
+        // the limit never shrinks below the fan-out, nothing is hedged
+        limiter = new AdaptiveConcurrencyLimiter(10000, 10000, 10000, 1.5, 0.5);
+        hedging = new HedgingPolicy(false, 95, 0.1, 100, 1000);
+        timings = new TaskTimings();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Await.result(system.terminate(), TIMEOUT);
+    }
+
+    @Benchmark
+    public Object ask() {
+        return Flux.concat(tasks.stream()
+                .map(task -> Mono.fromCompletionStage(
+                        FutureConverters.toJava(Patterns.ask(echo, task, TIMEOUT.toMillis()))))
+                .collect(Collectors.toList()))
+                .count()
+                .block();
+    }
+
+    @Benchmark
+    public Object aggregator() {
+        final int chunk = Math.max(1, Math.min(BATCH_SIZE, (fanOut + MAX_IN_FLIGHT - 1) / MAX_IN_FLIGHT));
+        return Flux.<TaskStatus>create(sink -> system.actorOf(WorkAggregatorActor.props(
+                echo, sink, template, fanOut, chunk, MAX_IN_FLIGHT, TIMEOUT, limiter, hedging, 0, timings)))
+                .count()
+                .block();
+    }
+
+    /**
+     * Worker that answers every task without computing it
+     */
+    private static final class Echo extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(Task.class, task -> getSender().tell(result(task.getIndex()), getSelf()))
+                    .match(TaskBatch.class, batch -> {
+                        final TaskBatchResult.Builder result = TaskBatchResult.newBuilder()
+                                .setFrom(batch.getFrom())
+                                .setAttempt(batch.getAttempt())
+                                .setCorrelationId(batch.getCorrelationId());
+                        for (int index = batch.getFrom(); index < batch.getTo(); index++) {
+                            result.addResults(result(index));
+                        }
+                        getSender().tell(result.build(), getSelf());
+                    })
+                    .build();
+        }
+
+        private static TaskResult result(final int index) {
+            return TaskResult.newBuilder()
+                    .setIndex(index)
+                    .setNode("echo")
+                    .setOutcome(Outcome.DONE)
+                    .build();
+        }
+    }
+}
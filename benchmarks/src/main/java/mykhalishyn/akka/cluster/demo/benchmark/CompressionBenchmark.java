@@ -0,0 +1,95 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.spring.common.serialization.ProtobufSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the CPU against the bytes on the wire of the {@link ProtobufSerializer} compression:
+ * the round trip of a batch result without the compression and with the fastest and the default levels.
+ * Besides the round trips per millisecond the {@code wireBytes} counter reports the bytes sent per millisecond,
+ * divided by the round trips it is the size of the message on the wire.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar CompressionBenchmark}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    // amount of the task results in the batch result
+    @Param({"100", "1000"})
+    private int results;
+
+    // the Deflater level, 0 - compression is off
+    @Param({"0", "1", "6"})
+    private int level;
+
+    private ProtobufSerializer serializer;
+
+    private TaskBatchResult payload;
+
+    private String manifest;
+
+    @Setup
+    public void setUp() {
+        serializer = new ProtobufSerializer(
+                ConfigFactory.parseResources("application.conf").getConfig(ProtobufSerializer.MANIFESTS),
+                getClass().getClassLoader(), level == 0 ? 0 : 1, level);
+        final TaskBatchResult.Builder result = TaskBatchResult.newBuilder();
+        for (int index = 0; index < results; index++) {
+            result.addResults(TaskResult.newBuilder()
+                    .setIndex(index)
+                    .setNode("web-demo-7d9f8c6b5-x2x4q")
+                    .setOutcome(Outcome.DONE)
+                    .setQueueMicros(1500 + index % 7)
+                    .setComputeMicros(25000 + index % 13));
+        }
+        payload = result.build();
+        manifest = serializer.manifest(payload);
+    }
+
+    @Benchmark
+    public Object roundTrip(final Wire wire) {
+        final byte[] bytes = serializer.toBinary(payload);
+        wire.wireBytes += bytes.length;
+        return serializer.fromBinary(bytes, manifest);
+    }
+
+    /**
+     * Bytes written on the wire
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Wire {
+
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+}
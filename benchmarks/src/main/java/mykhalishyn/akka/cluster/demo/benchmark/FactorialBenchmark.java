@@ -0,0 +1,72 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark of the {@link FactorialKernel} against the sequential fold the worker used before.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar FactorialBenchmark}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactorialBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int n;
+
+    private FactorialKernel sequential;
+
+    private FactorialKernel parallel;
+
+    @Setup
+    public void setUp() {
+        sequential = new FactorialKernel(0, 0);
+        parallel = new FactorialKernel(Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sequential.close();
+        parallel.close();
+    }
+
+    @Benchmark
+    public BigInteger fold() {
+        return LongStream.range(2, n + 1)
+                .boxed()
+                .map(BigInteger::valueOf)
+                .reduce(BigInteger.ONE, BigInteger::multiply);
+    }
+
+    @Benchmark
+    public BigInteger productTree() {
+        return sequential.factorial(n);
+    }
+
+    @Benchmark
+    public BigInteger productTreeParallel() {
+        return parallel.factorial(n);
+    }
+}
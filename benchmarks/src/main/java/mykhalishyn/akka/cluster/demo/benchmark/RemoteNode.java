@@ -0,0 +1,83 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.WorkAggregatorActor;
+import mykhalishyn.akka.cluster.spring.common.config.AkkaConfig;
+
+import java.util.Collections;
+
+/**
+ * The other JVM of the {@link RemotingBenchmark}.
+ * Answers every message sent to {@code /user/echo} with the message itself and acknowledges every batch result
+ * sent to {@code /user/echo/results} with a small message, the path of the results inbox of an aggregator.
+ * <p>
+ * {@code java -cp benchmarks.jar mykhalishyn.akka.cluster.demo.benchmark.RemoteNode artery 2552}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public final class RemoteNode {
+
+    static final String SYSTEM = "RemotingBenchmark";
+
+    static final String ECHO = "echo";
+
+    private RemoteNode() {
+    }
+
+    public static void main(final String[] args) {
+        final ActorSystem system = ActorSystem.create(SYSTEM, config(args[0], Integer.parseInt(args[1])));
+        system.actorOf(Props.create(Echo.class, Echo::new), ECHO);
+    }
+
+    /**
+     * Configuration of the web demo with the transport, without the cluster
+     *
+     * @param transport {@code netty.tcp} or {@code artery}. Cannot be {@code null}
+     * @param port      the port of the node, 0 - any free port
+     * @return the configuration
+     */
+    static Config config(final String transport, final int port) {
+        final Config overrides = ConfigFactory.parseString(
+                "akka.actor.provider = remote\n"
+                        + "akka.loglevel = WARNING\n"
+                        + "akka.remote.log-remote-lifecycle-events = off\n"
+                        + "akka.remote.netty.tcp.hostname = 127.0.0.1\n"
+                        + "akka.remote.netty.tcp.bind-hostname = 127.0.0.1\n"
+                        + "akka.remote.netty.tcp.port = " + port);
+        return ConfigFactory.load(overrides
+                .withFallback(ConfigFactory.parseResources("artery".equals(transport) ? "artery.conf" : "application.conf"))
+                .withFallback(ConfigFactory.parseMap(Collections.singletonMap(AkkaConfig.CONTAINER_CPUS, 1))));
+    }
+
+    private static final class Echo extends AbstractActor {
+
+        @Override
+        public void preStart() {
+            getContext().actorOf(Props.create(Results.class, Results::new), WorkAggregatorActor.RESULTS);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(message -> sender().tell(message, self()))
+                    .build();
+        }
+    }
+
+    private static final class Results extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(TaskBatchResult.class, result -> sender().tell(
+                            TaskRejected.newBuilder().setFrom(result.getFrom()).build(), self()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.pattern.Patterns;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.actor.WorkAggregatorActor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scala.concurrent.Await;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of the classic {@code netty.tcp} remoting and the Artery TCP profile of the web demo
+ * between two JVMs on the host, the other JVM is the {@link RemoteNode} started by the benchmark.
+ * <p>
+ * {@code task} is the round trip of a small message alone, the {@code mixed} group runs it
+ * next to the round trips of large batch results to the results inbox, which Artery sends
+ * through the large-message stream, so the small messages do not wait behind them.
+ * The percentiles of the sample time are the latency, the inverse of the average the throughput.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar RemotingBenchmark}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemotingBenchmark {
+
+    private static final FiniteDuration TIMEOUT = FiniteDuration.create(10, TimeUnit.SECONDS);
+
+    @Param({"netty.tcp", "artery"})
+    private String transport;
+
+    // amount of the task results in the large batch result
+    @Param({"10000"})
+    private int results;
+
+    private Process remote;
+
+    private ActorSystem system;
+
+    private ActorRef echo;
+
+    private ActorRef inbox;
+
+    private Task task;
+
+    private TaskBatchResult result;
+
+    @Setup
+    public void setUp() throws Exception {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        remote = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"), RemoteNode.class.getName(), transport, String.valueOf(port))
+                .inheritIO()
+                .start();
+        system = ActorSystem.create(RemoteNode.SYSTEM, RemoteNode.config(transport, 0));
+        final String address = ("artery".equals(transport) ? "akka" : "akka.tcp")
+                + "://" + RemoteNode.SYSTEM + "@127.0.0.1:" + port + "/user/" + RemoteNode.ECHO;
+        echo = resolve(address);
+        // the large messages are only sent through their stream to the resolved references
+        inbox = resolve(address + "/" + WorkAggregatorActor.RESULTS);
+
+        task = Task.newBuilder().setIndex(1).setSentAt(System.currentTimeMillis()).build();
+        final TaskBatchResult.Builder builder = TaskBatchResult.newBuilder();
+        for (int index = 0; index < results; index++) {
+            builder.addResults(TaskResult.newBuilder()
+                    .setIndex(index)
+                    .setNode("web-demo-7d9f8c6b5-x2x4q")
+                    .setOutcome(Outcome.DONE)
+                    .setQueueMicros(1500)
+                    .setComputeMicros(25000));
+        }
+        result = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Await.result(system.terminate(), TIMEOUT);
+        remote.destroy();
+        remote.waitFor(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public Object task() throws Exception {
+        return Await.result(Patterns.ask(echo, task, TIMEOUT.toMillis()), TIMEOUT);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Object mixedTask() throws Exception {
+        return task();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Object mixedResult() throws Exception {
+        return Await.result(Patterns.ask(inbox, result, TIMEOUT.toMillis()), TIMEOUT);
+    }
+
+    private ActorRef resolve(final String path) throws Exception {
+        // the other JVM needs a moment to start
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Await.result(system.actorSelection(path).resolveOne(TIMEOUT), TIMEOUT);
+            } catch (Exception e) {
+                if (attempt == 30) {
+                    throw e;
+                }
+                TimeUnit.SECONDS.sleep(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.spring.common.serialization.ProtobufSerializer;
+import com.typesafe.config.ConfigFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the round trip of the messages through the {@link ProtobufSerializer}:
+ * the {@code byte[]} path of the classic remoting against the {@code ByteBuffer} path of Artery,
+ * which writes into and reads from a pooled direct buffer. Run it with the GC profiler,
+ * {@code gc.alloc.rate.norm} is the allocation per message.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar SerializerBenchmark -prof gc}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({"task", "taskBatch", "taskBatchResult"})
+    private String message;
+
+    // the manifests of the web demo
+    private final ProtobufSerializer serializer = new ProtobufSerializer(
+            ConfigFactory.parseResources("application.conf").getConfig(ProtobufSerializer.MANIFESTS),
+            getClass().getClassLoader());
+
+    // the size of the Artery frame
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+
+    private Object payload;
+
+    private String manifest;
+
+    @Setup
+    public void setUp() {
+        if ("task".equals(message)) {
+            payload = Task.newBuilder()
+                    .setIndex(1)
+                    .setDeadline(System.currentTimeMillis())
+                    .setSentAt(System.currentTimeMillis())
+                    .setComputation(KernelRegistry.DEFAULT_COMPUTATION)
+                    .build();
+        } else if ("taskBatch".equals(message)) {
+            payload = TaskBatch.newBuilder()
+                    .setFrom(0)
+                    .setTo(100)
+                    .setDeadline(System.currentTimeMillis())
+                    .setSentAt(System.currentTimeMillis())
+                    .setComputation(KernelRegistry.DEFAULT_COMPUTATION)
+                    .build();
+        } else {
+            final TaskBatchResult.Builder result = TaskBatchResult.newBuilder();
+            for (int index = 0; index < 100; index++) {
+                result.addResults(TaskResult.newBuilder()
+                        .setIndex(index)
+                        .setNode("web-demo-7d9f8c6b5-x2x4q")
+                        .setOutcome(Outcome.DONE)
+                        .setQueueMicros(1500)
+                        .setComputeMicros(25000));
+            }
+            payload = result.build();
+        }
+        manifest = serializer.manifest(payload);
+    }
+
+    @Benchmark
+    public Object byteArray() {
+        final byte[] bytes = serializer.toBinary(payload);
+        return serializer.fromBinary(bytes, manifest);
+    }
+
+    @Benchmark
+    public Object byteBuffer() {
+        buffer.clear();
+        serializer.toBinary(payload, buffer);
+        buffer.flip();
+        return serializer.fromBinary(buffer, manifest);
+    }
+}
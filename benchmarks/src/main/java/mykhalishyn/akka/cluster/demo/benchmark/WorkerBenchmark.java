@@ -0,0 +1,106 @@
+package mykhalishyn.akka.cluster.demo.benchmark;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.WorkerActor;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import mykhalishyn.akka.cluster.demo.kernel.FibonacciKernel;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.kernel.PrimeCountKernel;
+import mykhalishyn.akka.cluster.spring.common.config.AkkaConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import scala.concurrent.Await;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a task answered by the {@link WorkerActor}: the mailbox, the factorial kernel
+ * and the {@code TaskResult}, the way a node computes a task routed to it. The result cache is off,
+ * so every task is computed. The worker computes on its own thread, the allocation reported
+ * by the GC profiler is the one of the caller, the allocation of the kernel is in {@link FactorialBenchmark}.
+ * <p>
+ * {@code java -jar benchmarks/target/benchmarks.jar WorkerBenchmark}
+ *
+ * @author dmihalishin@gmail.com
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkerBenchmark {
+
+    private static final FiniteDuration TIMEOUT = FiniteDuration.create(10, TimeUnit.SECONDS);
+
+    @Param({"1000", "10000", "100000"})
+    private int n;
+
+    private ActorSystem system;
+
+    private FactorialKernel factorial;
+
+    private ActorRef worker;
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        system = ActorSystem.create("WorkerBenchmark", config());
+        if (system.log().isDebugEnabled()) {
+            // the worker logs every task at the DEBUG level, the score would be the one of the logging
+            throw new IllegalStateException("WorkerBenchmark must run with akka.loglevel above DEBUG");
+        }
+        factorial = new FactorialKernel(Runtime.getRuntime().availableProcessors(), 0);
+        final KernelRegistry kernels = new KernelRegistry(factorial, new FibonacciKernel(), new PrimeCountKernel(), n);
+        worker = system.actorOf(Props.create(WorkerActor.class, new ResultCache(0), kernels));
+        final Computation computation = kernels.computation(KernelRegistry.FACTORIAL, n);
+        task = Task.newBuilder().setIndex(1).setComputation(computation).build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Await.result(system.terminate(), TIMEOUT);
+        factorial.close();
+    }
+
+    /**
+     * Configuration of the web demo on a single node, logging at the WARNING level, so the per-task
+     * DEBUG logs of the worker stay off
+     *
+     * @return the configuration
+     */
+    static Config config() {
+        return ConfigFactory.load(ConfigFactory.parseString(
+                "akka.actor.provider = local\n"
+                        + "akka.loglevel = WARNING")
+                .withFallback(ConfigFactory.parseResources("application.conf"))
+                .withFallback(ConfigFactory.parseMap(Collections.singletonMap(
+                        AkkaConfig.CONTAINER_CPUS, Runtime.getRuntime().availableProcessors()))));
+    }
+
+    @Benchmark
+    public Object task() throws Exception {
+        return Await.result(Patterns.ask(worker, task, TIMEOUT.toMillis()), TIMEOUT);
+    }
+}
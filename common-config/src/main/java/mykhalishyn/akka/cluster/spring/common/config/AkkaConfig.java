@@ -2,9 +2,11 @@ package mykhalishyn.akka.cluster.spring.common.config;
 
 import akka.actor.ActorSystem;
 import akka.cluster.Cluster;
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import mykhalishyn.akka.cluster.spring.common.support.SpringExtension;
 import mykhalishyn.akka.cluster.spring.common.utils.AkkaClusterUtils;
+import mykhalishyn.akka.cluster.spring.common.utils.ContainerCpuUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +15,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.Date;
 
 /**
@@ -24,15 +27,22 @@ import java.util.Date;
 @Profile("!test")
 public class AkkaConfig {
 
+    public static final String CONTAINER_CPUS = "container.cpus";
+
     /**
-     * Initialize {@link ActorSystem}
+     * Initialize {@link ActorSystem}.
+     * The amount of cores of the container is available to the akka configuration as {@code container.cpus},
+     * so the dispatchers and the pools can be sized by the cgroup CPU quota.
      *
      * @param applicationContext spring application context. Cannot be {@code null}
      * @return initialized actor system
      */
     @Bean
     public ActorSystem actorSystem(final ApplicationContext applicationContext) {
-        final ActorSystem system = ActorSystem.create("AkkaClusterSystem", ConfigFactory.load());
+        final Config container = ConfigFactory.parseMap(
+                Collections.singletonMap(CONTAINER_CPUS, ContainerCpuUtils.cpus()), "container cgroup");
+        final ActorSystem system = ActorSystem.create("AkkaClusterSystem",
+                ConfigFactory.load(ConfigFactory.defaultApplication().withFallback(container)));
         SpringExtension.SPRING_EXTENSION_PROVIDER.get(system).initialize(applicationContext);
         return system;
     }
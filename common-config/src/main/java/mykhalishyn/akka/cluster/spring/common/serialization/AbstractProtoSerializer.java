@@ -0,0 +1,88 @@
+package mykhalishyn.akka.cluster.spring.common.serialization;
+
+import akka.serialization.ByteBufferSerializer;
+import akka.serialization.SerializerWithStringManifest;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Base of the Proto Serializers.
+ * <p>
+ * Besides the {@code byte[]} path used by the classic remoting the serializer is a {@link ByteBufferSerializer},
+ * so the Artery transport has the messages written straight into its pooled buffers and parsed straight
+ * from them, without an intermediate array per message. The subclass only maps the messages to
+ * their manifests and the manifests to the parsers.
+ *
+ * @author dmihalishin@gmail.com
+ * @see SerializerWithStringManifest
+ * @see ByteBufferSerializer
+ */
+public abstract class AbstractProtoSerializer extends SerializerWithStringManifest implements ByteBufferSerializer {
+
+    /**
+     * Parser of the messages of the manifest
+     *
+     * @param manifest the manifest. Cannot be {@code null}
+     * @return the parser
+     * @throws IllegalArgumentException if the manifest is unknown
+     */
+    protected abstract Parser<? extends MessageLite> parser(String manifest);
+
+    @Override
+    public byte[] toBinary(final Object obj) {
+        return message(obj).toByteArray();
+    }
+
+    @Override
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        try {
+            return parser(manifest).parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The message is encoded right into the buffer, the position of the buffer is moved past it.
+     *
+     * @see ByteBufferSerializer#toBinary(Object, ByteBuffer)
+     */
+    @Override
+    public void toBinary(final Object obj, final ByteBuffer buf) {
+        final CodedOutputStream output = CodedOutputStream.newInstance(buf);
+        try {
+            message(obj).writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Message does not fit the buffer: " + obj.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The message is decoded right from the remaining bytes of the buffer.
+     *
+     * @see ByteBufferSerializer#fromBinary(ByteBuffer, String)
+     */
+    @Override
+    public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        try {
+            return parser(manifest).parseFrom(buf);
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    protected static MessageLite message(final Object obj) {
+        if (obj instanceof MessageLite) {
+            return (MessageLite) obj;
+        }
+        throw new IllegalArgumentException("Unknown type: " + obj);
+    }
+}
@@ -0,0 +1,305 @@
+package mykhalishyn.akka.cluster.spring.common.serialization;
+
+import akka.actor.ExtendedActorSystem;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Protobuf Serializer shared by the applications.
+ * <p>
+ * The message types are registered in the {@value #MANIFESTS} section of the configuration,
+ * each with an integer manifest that must be the same on every node of the cluster:
+ * <pre>
+ * protobuf-serializer.manifests {
+ *   "com.example.Protos$Ping" = 1
+ * }
+ * </pre>
+ * The parsers of the registered types are looked up once, so the manifest of a message and the parser
+ * of a manifest are found in constant time. The serializer is bound to all the protobuf messages
+ * by the {@code reference.conf} of the module, an unregistered message fails to serialize.
+ * <p>
+ * With the {@value #COMPRESSION_THRESHOLD} set the messages of at least that size are deflated,
+ * the compressed message carries the negated manifest, so the small messages pay nothing
+ * and a node reads the messages of the peers with any threshold.
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractProtoSerializer
+ */
+public class ProtobufSerializer extends AbstractProtoSerializer {
+
+    public static final String MANIFESTS = "protobuf-serializer.manifests";
+
+    public static final String COMPRESSION_THRESHOLD = "protobuf-serializer.compression-threshold";
+
+    public static final String COMPRESSION_LEVEL = "protobuf-serializer.compression-level";
+
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    // the string manifests of the demo serializers used 1234567
+    private static final int IDENTIFIER = 1234568;
+
+    private final Map<Class<?>, Manifest> manifests = new HashMap<>();
+
+    // parsers by the integer manifest
+    private final Parser<?>[] parsers;
+
+    // size of the smallest compressed message, 0 - compression is off
+    private final int compressionThreshold;
+
+    private final int compressionLevel;
+
+    public ProtobufSerializer(final ExtendedActorSystem system) {
+        this(system.settings().config().getConfig(MANIFESTS),
+                system.dynamicAccess().classLoader(),
+                system.settings().config().getBytes(COMPRESSION_THRESHOLD).intValue(),
+                system.settings().config().getInt(COMPRESSION_LEVEL));
+    }
+
+    /**
+     * Serializer without the compression
+     *
+     * @param manifests   the integer manifests by the class names of the messages. Cannot be {@code null}
+     * @param classLoader the class loader of the messages. Cannot be {@code null}
+     * @throws IllegalArgumentException if a message is not a generated protobuf message or a manifest is taken twice
+     */
+    public ProtobufSerializer(final Config manifests, final ClassLoader classLoader) {
+        this(manifests, classLoader, 0, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * @param manifests            the integer manifests by the class names of the messages. Cannot be {@code null}
+     * @param classLoader          the class loader of the messages. Cannot be {@code null}
+     * @param compressionThreshold size of the smallest compressed message in bytes, 0 - compression is off
+     * @param compressionLevel     the {@link Deflater} level, 1 - the fastest, 9 - the smallest
+     * @throws IllegalArgumentException if a message is not a generated protobuf message or a manifest is taken twice
+     */
+    public ProtobufSerializer(final Config manifests,
+                              final ClassLoader classLoader,
+                              final int compressionThreshold,
+                              final int compressionLevel) {
+        this.compressionThreshold = compressionThreshold;
+        this.compressionLevel = compressionLevel;
+        final Map<Integer, Parser<?>> byManifest = new HashMap<>();
+        int max = 0;
+        for (final Map.Entry<String, ConfigValue> entry : manifests.root().entrySet()) {
+            final int manifest = ((Number) entry.getValue().unwrapped()).intValue();
+            if (manifest <= 0 || byManifest.containsKey(manifest)) {
+                throw new IllegalArgumentException("Manifest " + manifest + " of " + entry.getKey()
+                        + " is not positive or already taken");
+            }
+            final Class<?> type = load(entry.getKey(), classLoader);
+            byManifest.put(manifest, parser(type));
+            this.manifests.put(type, new Manifest(manifest));
+            max = Math.max(max, manifest);
+        }
+        this.parsers = new Parser<?>[max + 1];
+        byManifest.forEach((manifest, parser) -> parsers[manifest] = parser);
+    }
+
+    @Override
+    public int identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public String manifest(final Object obj) {
+        final Manifest manifest = manifests.get(obj.getClass());
+        if (manifest == null) {
+            throw new IllegalArgumentException("Unregistered protobuf message: " + obj.getClass().getName()
+                    + ", add it to " + MANIFESTS);
+        }
+        return compressed(message(obj)) ? manifest.compressed : manifest.plain;
+    }
+
+    @Override
+    public byte[] toBinary(final Object obj) {
+        final MessageLite message = message(obj);
+        if (!compressed(message)) {
+            return super.toBinary(obj);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(message.getSerializedSize() / 2);
+        deflate(message, bytes);
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        if (!compressed(manifest)) {
+            return super.fromBinary(bytes, manifest);
+        }
+        return inflate(new ByteArrayInputStream(bytes), manifest);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The compressed message is deflated right into the buffer.
+     *
+     * @see AbstractProtoSerializer#toBinary(Object, ByteBuffer)
+     */
+    @Override
+    public void toBinary(final Object obj, final ByteBuffer buf) {
+        final MessageLite message = message(obj);
+        if (!compressed(message)) {
+            super.toBinary(obj, buf);
+            return;
+        }
+        try {
+            deflate(message, new ByteBufferOutputStream(buf));
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("Message does not fit the buffer: " + obj.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The compressed message is inflated right from the buffer.
+     *
+     * @see AbstractProtoSerializer#fromBinary(ByteBuffer, String)
+     */
+    @Override
+    public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        if (!compressed(manifest)) {
+            return super.fromBinary(buf, manifest);
+        }
+        return inflate(new ByteBufferInputStream(buf), manifest);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Parser<? extends MessageLite> parser(final String manifest) {
+        final int index;
+        try {
+            // the compressed message has the negated manifest
+            index = Math.abs(Integer.parseInt(manifest));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown manifest: " + manifest, e);
+        }
+        final Parser<?> parser = index > 0 && index < parsers.length ? parsers[index] : null;
+        if (parser == null) {
+            throw new IllegalArgumentException("Unknown manifest: " + manifest);
+        }
+        return (Parser<? extends MessageLite>) parser;
+    }
+
+    private boolean compressed(final MessageLite message) {
+        // the size is memoized by the message, it is computed once for the manifest and the body
+        return compressionThreshold > 0 && message.getSerializedSize() >= compressionThreshold;
+    }
+
+    private static boolean compressed(final String manifest) {
+        return !manifest.isEmpty() && manifest.charAt(0) == '-';
+    }
+
+    private void deflate(final MessageLite message, final OutputStream out) {
+        final Deflater deflater = new Deflater(compressionLevel);
+        try (DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater, STREAM_BUFFER_SIZE)) {
+            message.writeTo(deflated);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot compress the message: " + message.getClass().getName(), e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private Object inflate(final InputStream in, final String manifest) {
+        final Inflater inflater = new Inflater();
+        try {
+            return parser(manifest).parseFrom(new InflaterInputStream(in, inflater, STREAM_BUFFER_SIZE));
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Class<?> load(final String className, final ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown protobuf message: " + className, e);
+        }
+    }
+
+    /**
+     * Parser of the generated message, taken from its static {@code parser()} method
+     */
+    private static Parser<?> parser(final Class<?> type) {
+        if (!MessageLite.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Not a protobuf message: " + type.getName());
+        }
+        try {
+            return (Parser<?>) type.getMethod("parser").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No parser of the protobuf message: " + type.getName(), e);
+        }
+    }
+
+    private static final class Manifest {
+        private final String plain;
+
+        private final String compressed;
+
+        private Manifest(final int manifest) {
+            this.plain = String.valueOf(manifest);
+            this.compressed = String.valueOf(-manifest);
+        }
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream {
+        private final ByteBuffer buf;
+
+        private ByteBufferOutputStream(final ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public void write(final int b) {
+            buf.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int off, final int len) {
+            buf.put(bytes, off, len);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        private ByteBufferInputStream(final ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, buf.remaining());
+            buf.get(bytes, off, read);
+            return read;
+        }
+    }
+}
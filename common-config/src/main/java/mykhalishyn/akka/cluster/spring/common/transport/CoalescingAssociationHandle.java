@@ -0,0 +1,163 @@
+package mykhalishyn.akka.cluster.spring.common.transport;
+
+import akka.dispatch.Mapper;
+import akka.remote.transport.AbstractTransportAdapterHandle;
+import akka.remote.transport.AssociationHandle;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+import scala.concurrent.Promise;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Association of the {@link CoalescingTransportAdapter}.
+ * <p>
+ * The messages are collected into a frame of the messages, each prefixed with its length.
+ * A frame refused by the wrapped handle is retried before anything else, meanwhile the new messages
+ * are refused too, so the remoting backs off as it does with the wrapped handle.
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractTransportAdapterHandle
+ */
+final class CoalescingAssociationHandle extends AbstractTransportAdapterHandle {
+
+    // length of every message in the frame
+    static final int HEADER_BYTES = 4;
+
+    private final Promise<HandleEventListener> readHandlerPromise = Promise.apply();
+
+    private final CoalescingTransportAdapter adapter;
+
+    private final ByteStringBuilder frame = new ByteStringBuilder();
+
+    private ScheduledFuture<?> flush;
+
+    // frame refused by the wrapped handle
+    private ByteString stalled;
+
+    private boolean closed;
+
+    CoalescingAssociationHandle(final AssociationHandle wrappedHandle, final CoalescingTransportAdapter adapter) {
+        super(wrappedHandle, CoalescingTransportAdapter.SCHEME);
+        this.adapter = adapter;
+        // the frames are only read once the remoting listens to the messages
+        wrappedHandle.readHandlerPromise().completeWith(readHandlerPromise.future().map(
+                new Mapper<HandleEventListener, HandleEventListener>() {
+                    @Override
+                    public HandleEventListener apply(final HandleEventListener listener) {
+                        return event -> {
+                            if (event instanceof InboundPayload) {
+                                split(((InboundPayload) event).payload(),
+                                        message -> listener.notify(new InboundPayload(message)));
+                            } else {
+                                listener.notify(event);
+                            }
+                        };
+                    }
+                }, adapter.ec()));
+    }
+
+    @Override
+    public String augmentScheme(final String originalScheme) {
+        return originalScheme;
+    }
+
+    @Override
+    public Promise<HandleEventListener> readHandlerPromise() {
+        return readHandlerPromise;
+    }
+
+    @Override
+    public synchronized boolean write(final ByteString payload) {
+        if (closed || !unstall()) {
+            return false;
+        }
+        if (frame.length() > 0 && frame.length() + HEADER_BYTES + payload.size() > adapter.maxBytes) {
+            flushFrame();
+            if (stalled != null) {
+                return false;
+            }
+        }
+        frame.putInt(payload.size(), ByteOrder.BIG_ENDIAN).append(payload);
+        if (frame.length() >= adapter.maxBytes) {
+            flushFrame();
+        } else if (flush == null) {
+            flush = adapter.flusher.schedule(this::onFlush, adapter.maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    // the deprecated disassociate() is still the abstract method of the handle in Akka 2.5, with no replacement
+    @SuppressWarnings("deprecation")
+    @Override
+    public void disassociate() {
+        synchronized (this) {
+            if (unstall()) {
+                flushFrame();
+            }
+            closed = true;
+        }
+        wrappedHandle().disassociate();
+    }
+
+    /**
+     * Split the frame into the messages
+     *
+     * @param frame    the frame. Cannot be {@code null}
+     * @param messages the consumer of the messages, in the order of the frame. Cannot be {@code null}
+     */
+    static void split(final ByteString frame, final Consumer<ByteString> messages) {
+        final ByteBuffer lengths = frame.asByteBuffer();
+        int position = 0;
+        while (position < frame.size()) {
+            final int length = lengths.getInt(position);
+            messages.accept(frame.slice(position + HEADER_BYTES, position + HEADER_BYTES + length));
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    private synchronized void onFlush() {
+        flush = null;
+        if (!closed && unstall()) {
+            flushFrame();
+        }
+        scheduleRetry();
+    }
+
+    private boolean unstall() {
+        if (stalled == null) {
+            return true;
+        }
+        if (!wrappedHandle().write(stalled)) {
+            return false;
+        }
+        stalled = null;
+        return true;
+    }
+
+    private void flushFrame() {
+        if (flush != null) {
+            flush.cancel(false);
+            flush = null;
+        }
+        if (frame.length() == 0) {
+            return;
+        }
+        final ByteString bytes = frame.result();
+        frame.clear();
+        if (!wrappedHandle().write(bytes)) {
+            stalled = bytes;
+            scheduleRetry();
+        }
+    }
+
+    private void scheduleRetry() {
+        if (stalled != null && !closed && flush == null) {
+            flush = adapter.flusher.schedule(this::onFlush, adapter.maxDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
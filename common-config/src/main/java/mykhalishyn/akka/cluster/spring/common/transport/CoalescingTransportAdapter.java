@@ -0,0 +1,149 @@
+package mykhalishyn.akka.cluster.spring.common.transport;
+
+import akka.actor.Address;
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.remote.transport.AbstractTransportAdapter;
+import akka.remote.transport.AssociationHandle;
+import akka.remote.transport.Transport;
+import akka.remote.transport.Transport.AssociationEvent;
+import akka.remote.transport.Transport.AssociationEventListener;
+import akka.remote.transport.Transport.InboundAssociation;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Transport adapter of the classic remoting that coalesces the small messages to the same node.
+ * <p>
+ * Every message written to an association waits at most {@code maxDelayNanos} for the next ones
+ * and the collected messages are written to the wrapped transport as one frame, which is sent at once
+ * when it reaches {@code maxBytes}. The receiving side splits the frame back into the messages,
+ * in the order they were written, so the ordering of every sender is kept. The actors, the serializers
+ * and the addresses of the nodes stay the same.
+ *
+ * @author dmihalishin@gmail.com
+ * @see CoalescingAssociationHandle
+ * @see CoalescingTransportAdapterProvider
+ */
+public class CoalescingTransportAdapter extends AbstractTransportAdapter {
+
+    static final String SCHEME = "coalescing";
+
+    // the messages of the associations wait for the others on the single thread of the adapter
+    final ScheduledExecutorService flusher;
+
+    final long maxDelayNanos;
+
+    final int maxBytes;
+
+    /**
+     * @param wrappedTransport the transport of the frames. Cannot be {@code null}
+     * @param ec               the execution context of the callbacks. Cannot be {@code null}
+     * @param maxDelayNanos    longest time a message waits for the others to the same node
+     * @param maxBytes         size of the frame sent without waiting, below the maximum frame size of the transport
+     */
+    public CoalescingTransportAdapter(final Transport wrappedTransport,
+                                      final ExecutionContext ec,
+                                      final long maxDelayNanos,
+                                      final int maxBytes) {
+        super(wrappedTransport, ec);
+        this.maxDelayNanos = maxDelayNanos;
+        this.maxBytes = maxBytes;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "coalescing-transport-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String addedSchemeIdentifier() {
+        return SCHEME;
+    }
+
+    /**
+     * The addresses of the nodes are the same with the adapter on
+     */
+    @Override
+    public String augmentScheme(final String originalScheme) {
+        return originalScheme;
+    }
+
+    @Override
+    public int maximumOverhead() {
+        return CoalescingAssociationHandle.HEADER_BYTES;
+    }
+
+    /**
+     * The upstream listener is only known once the transport listens, the inbound associations
+     * are queued until then and passed to it in the order they came
+     */
+    @Override
+    public Future<AssociationEventListener> interceptListen(final Address listenAddress,
+                                                            final Future<AssociationEventListener> listenerFuture) {
+        final PendingListener upstream = new PendingListener();
+        FutureConverters.toJava(listenerFuture).thenAccept(upstream::resolve);
+        return Futures.successful(event -> upstream.notify(event instanceof InboundAssociation
+                ? new InboundAssociation(handle(((InboundAssociation) event).association()))
+                : event));
+    }
+
+    @Override
+    public void interceptAssociate(final Address remoteAddress, final Promise<AssociationHandle> statusPromise) {
+        statusPromise.completeWith(wrappedTransport().associate(remoteAddress).map(
+                new Mapper<AssociationHandle, AssociationHandle>() {
+                    @Override
+                    public AssociationHandle apply(final AssociationHandle wrappedHandle) {
+                        return handle(wrappedHandle);
+                    }
+                }, ec()));
+    }
+
+    @Override
+    public Future<Object> shutdown() {
+        flusher.shutdown();
+        return super.shutdown();
+    }
+
+    private AssociationHandle handle(final AssociationHandle wrappedHandle) {
+        return new CoalescingAssociationHandle(wrappedHandle, this);
+    }
+
+    /**
+     * Listener that queues the events until the upstream listener is known
+     */
+    private static final class PendingListener implements AssociationEventListener {
+
+        private final Queue<AssociationEvent> pending = new ArrayDeque<>();
+
+        private AssociationEventListener listener;
+
+        @Override
+        public void notify(final AssociationEvent event) {
+            final AssociationEventListener upstream;
+            synchronized (this) {
+                if (listener == null) {
+                    pending.add(event);
+                    return;
+                }
+                upstream = listener;
+            }
+            upstream.notify(event);
+        }
+
+        // the queued events are passed under the lock, so the new ones cannot overtake them
+        synchronized void resolve(final AssociationEventListener upstream) {
+            while (!pending.isEmpty()) {
+                upstream.notify(pending.poll());
+            }
+            listener = upstream;
+        }
+    }
+}
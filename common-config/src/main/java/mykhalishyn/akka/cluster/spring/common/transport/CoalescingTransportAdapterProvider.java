@@ -0,0 +1,36 @@
+package mykhalishyn.akka.cluster.spring.common.transport;
+
+import akka.actor.ExtendedActorSystem;
+import akka.remote.transport.Transport;
+import akka.remote.transport.TransportAdapterProvider;
+import com.typesafe.config.Config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider of the {@link CoalescingTransportAdapter}, registered as the {@code coalescing} adapter
+ * of the classic remoting by the {@code reference.conf} of the module.
+ * <p>
+ * The adapter is applied with {@code akka.remote.netty.tcp.applied-adapters = ["coalescing"]}
+ * and only wraps the transport with {@value #SETTINGS}{@code .enabled = on}, so it can be switched
+ * per deployment without touching the applied adapters. The batches are not understood by a node
+ * without the adapter, it must be enabled on every node of the cluster or none.
+ *
+ * @author dmihalishin@gmail.com
+ * @see TransportAdapterProvider
+ */
+public class CoalescingTransportAdapterProvider implements TransportAdapterProvider {
+
+    public static final String SETTINGS = "coalescing-transport";
+
+    @Override
+    public Transport create(final Transport wrappedTransport, final ExtendedActorSystem system) {
+        final Config settings = system.settings().config().getConfig(SETTINGS);
+        if (!settings.getBoolean("enabled")) {
+            return wrappedTransport;
+        }
+        return new CoalescingTransportAdapter(wrappedTransport, system.dispatcher(),
+                settings.getDuration("max-delay", TimeUnit.NANOSECONDS),
+                settings.getBytes("max-bytes").intValue());
+    }
+}
@@ -0,0 +1,82 @@
+package mykhalishyn.akka.cluster.spring.common.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Container CPU Utils, the amount of cores the container is given by its cgroup CPU quota
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class ContainerCpuUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContainerCpuUtils.class);
+
+    private static final Path CGROUP_ROOT = Paths.get("/sys/fs/cgroup");
+
+    // cgroup v2: "<quota> <period>" or "max <period>"
+    private static final String CPU_MAX = "cpu.max";
+
+    // cgroup v1
+    private static final String CFS_QUOTA = "cpu/cpu.cfs_quota_us";
+    private static final String CFS_PERIOD = "cpu/cpu.cfs_period_us";
+
+    /**
+     * Amount of cores of the container
+     *
+     * @return the CPU quota rounded up, the available processors if there is no quota
+     */
+    public static int cpus() {
+        return cpus(CGROUP_ROOT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Amount of cores by the cgroup CPU quota
+     *
+     * @param cgroupRoot          the root of the cgroup file system. Cannot be {@code null}
+     * @param availableProcessors the processors available to the JVM
+     * @return the CPU quota rounded up and limited by the available processors,
+     * the available processors if there is no quota
+     */
+    static int cpus(final Path cgroupRoot, final int availableProcessors) {
+        final double quota = quota(cgroupRoot);
+        if (quota <= 0) {
+            return Math.max(1, availableProcessors);
+        }
+        final int cpus = Math.max(1, Math.min(availableProcessors, (int) Math.ceil(quota)));
+        LOGGER.info("Container CPU quota is {}, using {} cores", quota, cpus);
+        return cpus;
+    }
+
+    /**
+     * CPU quota of the cgroup in cores, {@code -1} if there is no quota
+     */
+    private static double quota(final Path cgroupRoot) {
+        try {
+            final Path cpuMax = cgroupRoot.resolve(CPU_MAX);
+            if (Files.isReadable(cpuMax)) {
+                final String[] values = read(cpuMax).split("\\s+");
+                return "max".equals(values[0]) ? -1 : Double.parseDouble(values[0]) / Double.parseDouble(values[1]);
+            }
+            final Path cfsQuota = cgroupRoot.resolve(CFS_QUOTA);
+            final Path cfsPeriod = cgroupRoot.resolve(CFS_PERIOD);
+            if (Files.isReadable(cfsQuota) && Files.isReadable(cfsPeriod)) {
+                final double quota = Double.parseDouble(read(cfsQuota));
+                return quota <= 0 ? -1 : quota / Double.parseDouble(read(cfsPeriod));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot read the container CPU quota: {}", e.getMessage());
+        }
+        return -1;
+    }
+
+    private static String read(final Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.US_ASCII).trim();
+    }
+}
@@ -0,0 +1,68 @@
+package mykhalishyn.akka.cluster.spring.common.serialization;
+
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.StringValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tests for {@link AbstractProtoSerializer}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class AbstractProtoSerializerTest {
+
+    private final TestSerializer serializer = new TestSerializer();
+
+    @Test
+    public void byteBuffer() {
+        final StringValue message = StringValue.of("work");
+        for (final ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            // the buffer of the transport may already hold the header of the envelope
+            buffer.put((byte) 42);
+            serializer.toBinary(message, buffer);
+            Assert.assertEquals(1 + message.getSerializedSize(), buffer.position());
+
+            buffer.flip();
+            buffer.get();
+            Assert.assertEquals(message, serializer.fromBinary(buffer, serializer.manifest(message)));
+        }
+    }
+
+    @Test
+    public void byteArrayFallback() {
+        final Int64Value message = Int64Value.of(10000);
+        final byte[] bytes = serializer.toBinary(message);
+        Assert.assertArrayEquals(message.toByteArray(), bytes);
+        Assert.assertEquals(message, serializer.fromBinary(bytes, serializer.manifest(message)));
+        // both paths share the wire format
+        Assert.assertEquals(message, serializer.fromBinary(ByteBuffer.wrap(bytes), serializer.manifest(message)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferOverflow() {
+        serializer.toBinary(StringValue.of("does not fit"), ByteBuffer.allocate(4));
+    }
+
+    private static class TestSerializer extends AbstractProtoSerializer {
+
+        @Override
+        public int identifier() {
+            return 7654321;
+        }
+
+        @Override
+        public String manifest(final Object obj) {
+            return obj instanceof StringValue ? "string" : "int64";
+        }
+
+        @Override
+        protected Parser<? extends MessageLite> parser(final String manifest) {
+            return "string".equals(manifest) ? StringValue.parser() : Int64Value.parser();
+        }
+    }
+}
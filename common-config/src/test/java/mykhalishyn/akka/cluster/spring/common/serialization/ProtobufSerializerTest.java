@@ -0,0 +1,78 @@
+package mykhalishyn.akka.cluster.spring.common.serialization;
+
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.StringValue;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+/**
+ * Tests for {@link ProtobufSerializer}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class ProtobufSerializerTest {
+
+    private static final Config MANIFESTS = ConfigFactory.parseString(
+            "\"com.google.protobuf.StringValue\" = 1\n" +
+            "\"com.google.protobuf.Int64Value\" = 7");
+
+    private final ProtobufSerializer serializer = new ProtobufSerializer(MANIFESTS, getClass().getClassLoader());
+
+    @Test
+    public void roundTrip() {
+        final StringValue string = StringValue.of("work");
+        final Int64Value int64 = Int64Value.of(10000);
+        Assert.assertEquals("1", serializer.manifest(string));
+        Assert.assertEquals("7", serializer.manifest(int64));
+
+        Assert.assertEquals(string, serializer.fromBinary(serializer.toBinary(string), "1"));
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        serializer.toBinary(int64, buffer);
+        buffer.flip();
+        Assert.assertEquals(int64, serializer.fromBinary(buffer, "7"));
+    }
+
+    @Test
+    public void compression() {
+        final ProtobufSerializer compressing = new ProtobufSerializer(MANIFESTS, getClass().getClassLoader(), 64, 1);
+        // the small message is never compressed
+        final Int64Value small = Int64Value.of(10000);
+        Assert.assertEquals("7", compressing.manifest(small));
+        Assert.assertArrayEquals(small.toByteArray(), compressing.toBinary(small));
+
+        final StringValue large = StringValue.of(String.join("", Collections.nCopies(100, "node-1 Finish task.")));
+        Assert.assertEquals("-1", compressing.manifest(large));
+        final byte[] bytes = compressing.toBinary(large);
+        Assert.assertTrue(bytes.length < large.getSerializedSize() / 10);
+        // the node without the compression reads the compressed messages too
+        Assert.assertEquals(large, serializer.fromBinary(bytes, "-1"));
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(large.getSerializedSize());
+        compressing.toBinary(large, buffer);
+        Assert.assertEquals(bytes.length, buffer.position());
+        buffer.flip();
+        Assert.assertEquals(large, compressing.fromBinary(buffer, "-1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unregisteredMessage() {
+        serializer.manifest(com.google.protobuf.BoolValue.of(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownManifest() {
+        serializer.fromBinary(new byte[0], "2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void manifestTakenTwice() {
+        new ProtobufSerializer(ConfigFactory.parseString(
+                "\"com.google.protobuf.StringValue\" = 1\n" +
+                "\"com.google.protobuf.Int64Value\" = 1"), getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,205 @@
+package mykhalishyn.akka.cluster.spring.common.transport;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.remote.transport.AssociationHandle;
+import akka.remote.transport.AssociationHandle.HandleEventListener;
+import akka.remote.transport.AssociationHandle.InboundPayload;
+import akka.remote.transport.Transport;
+import akka.remote.transport.Transport.AssociationEventListener;
+import akka.remote.transport.Transport.InboundAssociation;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.spring.common.AbstractActorTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import scala.concurrent.Await;
+import scala.concurrent.Promise;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link CoalescingTransportAdapter}
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorTest
+ */
+public class CoalescingTransportAdapterTest extends AbstractActorTest {
+
+    private final Promise<HandleEventListener> wrappedReadHandler = Promise.apply();
+
+    private final AssociationHandle wrappedHandle = Mockito.mock(AssociationHandle.class);
+
+    private CoalescingTransportAdapter adapter;
+
+    @Before
+    public void before() {
+        Mockito.when(wrappedHandle.localAddress()).thenReturn(new Address("akka.tcp", "local"));
+        Mockito.when(wrappedHandle.remoteAddress()).thenReturn(new Address("akka.tcp", "remote"));
+        Mockito.when(wrappedHandle.readHandlerPromise()).thenReturn(wrappedReadHandler);
+        Mockito.when(wrappedHandle.write(Mockito.any())).thenReturn(true);
+        adapter = new CoalescingTransportAdapter(Mockito.mock(Transport.class), system.dispatcher(),
+                TimeUnit.MILLISECONDS.toNanos(50), 64);
+    }
+
+    @After
+    public void after() {
+        adapter.flusher.shutdownNow();
+    }
+
+    @Test
+    public void coalesce() {
+        final CoalescingAssociationHandle handle = new CoalescingAssociationHandle(wrappedHandle, adapter);
+        Assert.assertTrue(handle.write(ByteString.fromString("first")));
+        Assert.assertTrue(handle.write(ByteString.fromString("second")));
+        Mockito.verify(wrappedHandle, Mockito.never()).write(Mockito.any());
+
+        // both messages leave as one frame after the delay
+        final ArgumentCaptor<ByteString> frame = ArgumentCaptor.forClass(ByteString.class);
+        Mockito.verify(wrappedHandle, Mockito.timeout(1000)).write(frame.capture());
+        Assert.assertEquals(2 * CoalescingAssociationHandle.HEADER_BYTES + 11, frame.getValue().size());
+        Assert.assertEquals(messages("first", "second"), split(frame.getValue()));
+    }
+
+    @Test
+    public void maxBytes() {
+        final CoalescingAssociationHandle handle = new CoalescingAssociationHandle(wrappedHandle, adapter);
+        final String large = new String(new char[60]).replace('\0', 'x');
+        Assert.assertTrue(handle.write(ByteString.fromString("first")));
+        // the message does not fit, the collected one is sent at once and the full frame is not delayed
+        Assert.assertTrue(handle.write(ByteString.fromString(large)));
+        final ArgumentCaptor<ByteString> frames = ArgumentCaptor.forClass(ByteString.class);
+        Mockito.verify(wrappedHandle, Mockito.times(2)).write(frames.capture());
+        Assert.assertEquals(messages("first"), split(frames.getAllValues().get(0)));
+        Assert.assertEquals(messages(large), split(frames.getAllValues().get(1)));
+    }
+
+    @Test
+    public void stalled() {
+        Mockito.when(wrappedHandle.write(Mockito.any())).thenReturn(false, false, true);
+        final CoalescingAssociationHandle handle = new CoalescingAssociationHandle(wrappedHandle, adapter);
+        Assert.assertTrue(handle.write(ByteString.fromString("first")));
+        // the refused frame is retried before the new messages are taken
+        Mockito.verify(wrappedHandle, Mockito.timeout(1000).times(1)).write(Mockito.any());
+        Assert.assertFalse(handle.write(ByteString.fromString("second")));
+        Mockito.verify(wrappedHandle, Mockito.timeout(1000).times(3)).write(Mockito.any());
+        Assert.assertTrue(handle.write(ByteString.fromString("second")));
+    }
+
+    @Test
+    public void read() throws Exception {
+        final CoalescingAssociationHandle handle = new CoalescingAssociationHandle(wrappedHandle, adapter);
+        final List<String> received = new ArrayList<>();
+        handle.readHandlerPromise().success(event -> received.add(((InboundPayload) event).payload().utf8String()));
+
+        final HandleEventListener listener = Await.result(wrappedReadHandler.future(),
+                FiniteDuration.create(1, TimeUnit.SECONDS));
+        listener.notify(new InboundPayload(new ByteStringBuilder()
+                .putInt(5, ByteOrder.BIG_ENDIAN).append(ByteString.fromString("first"))
+                .putInt(0, ByteOrder.BIG_ENDIAN)
+                .putInt(6, ByteOrder.BIG_ENDIAN).append(ByteString.fromString("second"))
+                .result()));
+        Assert.assertEquals(messages("first", "", "second"), received);
+    }
+
+    @Test
+    public void earlyInboundAssociations() throws Exception {
+        final Promise<AssociationEventListener> upstream = Promise.apply();
+        final AssociationEventListener listener = Await.result(
+                adapter.interceptListen(new Address("akka.tcp", "local"), upstream.future()),
+                FiniteDuration.create(1, TimeUnit.SECONDS));
+        listener.notify(new InboundAssociation(inbound("first")));
+        listener.notify(new InboundAssociation(inbound("second")));
+        listener.notify(new InboundAssociation(inbound("third")));
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+        upstream.success(event -> received.add(
+                ((InboundAssociation) event).association().remoteAddress().system()));
+        listener.notify(new InboundAssociation(inbound("fourth")));
+        // the associations that came before the upstream listener keep their order
+        new TestKit(system).awaitAssert(() -> {
+            Assert.assertEquals(messages("first", "second", "third", "fourth"), received);
+            return null;
+        });
+    }
+
+    @Test
+    public void remote() {
+        final Config config = ConfigFactory.parseString(
+                "akka.actor.provider = remote\n" +
+                "akka.remote.netty.tcp.port = 0\n" +
+                "akka.remote.netty.tcp.applied-adapters = [coalescing]\n" +
+                "coalescing-transport.enabled = on")
+                .withFallback(ConfigFactory.load());
+        final ActorSystem first = ActorSystem.create("CoalescingSystem", config);
+        final ActorSystem second = ActorSystem.create("CoalescingSystem", config);
+        try {
+            second.actorOf(Props.create(Echo.class), "echo");
+            final Address address = ((ExtendedActorSystem) second).provider().getDefaultAddress();
+            Assert.assertEquals("akka.tcp", address.protocol());
+            final ActorSelection echo = first.actorSelection(address + "/user/echo");
+
+            final TestKit probe = new TestKit(first);
+            for (int index = 0; index < 1000; index++) {
+                echo.tell(index, probe.getRef());
+            }
+            // every message arrives once, in the order of the sender
+            for (int index = 0; index < 1000; index++) {
+                probe.expectMsg(Duration.ofSeconds(10), index);
+            }
+        } finally {
+            TestKit.shutdownActorSystem(first);
+            TestKit.shutdownActorSystem(second);
+        }
+    }
+
+    private static AssociationHandle inbound(final String system) {
+        final AssociationHandle handle = Mockito.mock(AssociationHandle.class);
+        Mockito.when(handle.localAddress()).thenReturn(new Address("akka.tcp", "local"));
+        Mockito.when(handle.remoteAddress()).thenReturn(new Address("akka.tcp", system));
+        Mockito.when(handle.readHandlerPromise()).thenReturn(Promise.apply());
+        return handle;
+    }
+
+    private static List<String> split(final ByteString frame) {
+        final List<String> messages = new ArrayList<>();
+        CoalescingAssociationHandle.split(frame, message -> messages.add(message.utf8String()));
+        return messages;
+    }
+
+    private static List<String> messages(final String... messages) {
+        return Arrays.asList(messages);
+    }
+
+    /**
+     * Replies with the received message
+     */
+    public static class Echo extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(message -> getSender().tell(message, ActorRef.noSender()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package mykhalishyn.akka.cluster.spring.common.utils;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests for {@link ContainerCpuUtils}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class ContainerCpuUtilsTest {
+
+    @Rule
+    public TemporaryFolder cgroup = new TemporaryFolder();
+
+    @Test
+    public void cgroupV2() throws IOException {
+        write("cpu.max", "250000 100000\n");
+        Assert.assertEquals(3, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 8));
+        // the quota cannot give more cores than the node has
+        Assert.assertEquals(2, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 2));
+    }
+
+    @Test
+    public void cgroupV2NoQuota() throws IOException {
+        write("cpu.max", "max 100000\n");
+        Assert.assertEquals(8, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 8));
+    }
+
+    @Test
+    public void cgroupV1() throws IOException {
+        write("cpu/cpu.cfs_quota_us", "50000\n");
+        write("cpu/cpu.cfs_period_us", "100000\n");
+        Assert.assertEquals(1, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 8));
+    }
+
+    @Test
+    public void cgroupV1NoQuota() throws IOException {
+        write("cpu/cpu.cfs_quota_us", "-1\n");
+        write("cpu/cpu.cfs_period_us", "100000\n");
+        Assert.assertEquals(4, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 4));
+    }
+
+    @Test
+    public void noCgroup() {
+        Assert.assertEquals(4, ContainerCpuUtils.cpus(cgroup.getRoot().toPath(), 4));
+    }
+
+    private void write(final String file, final String content) throws IOException {
+        final Path path = cgroup.getRoot().toPath().resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,86 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.util.ByteString;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Decimal digits of a non-negative value in chunks of the same amount of digits, only the first chunk
+ * can be shorter. The value is split in halves by the powers of ten as the chunks are asked for,
+ * so the digits of the whole value are never held at once.
+ *
+ * @author dmihalishin@gmail.com
+ */
+class DecimalChunks implements Iterator<ByteString> {
+
+    private final int digits;
+
+    // 10 ^ (digits * 2 ^ level) by the level
+    private final List<BigInteger> powers = new ArrayList<>();
+
+    // parts of the value not sent yet, the next one on the top, and the levels of their sizes
+    private final Deque<BigInteger> parts = new ArrayDeque<>();
+
+    private final Deque<Integer> levels = new ArrayDeque<>();
+
+    // the first chunk is not padded with zeros
+    private boolean first = true;
+
+    /**
+     * @param value  the value. Cannot be {@code null} or negative
+     * @param digits amount of digits in a chunk
+     */
+    DecimalChunks(final BigInteger value, final int digits) {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        this.digits = digits;
+        int level = 0;
+        powers.add(BigInteger.TEN.pow(digits));
+        while (value.compareTo(powers.get(level)) >= 0) {
+            powers.add(powers.get(level).multiply(powers.get(level)));
+            level++;
+        }
+        // the value is below the last power, it is never divided by it
+        powers.remove(level);
+        parts.push(value);
+        levels.push(level);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !parts.isEmpty();
+    }
+
+    @Override
+    public ByteString next() {
+        if (parts.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        BigInteger part = parts.pop();
+        int level = levels.pop();
+        while (level > 0) {
+            final BigInteger[] halves = part.divideAndRemainder(powers.get(--level));
+            parts.push(halves[1]);
+            levels.push(level);
+            // the high half of the first chunk is zero for the leading zeros of the value, skip it
+            if (first && halves[0].signum() == 0) {
+                part = parts.pop();
+                levels.pop();
+            } else {
+                part = halves[0];
+            }
+        }
+        final String chunk = first ? part.toString() : StringUtils.leftPad(part.toString(), digits, '0');
+        first = false;
+        return ByteString.fromArrayUnsafe(chunk.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -14,42 +14,161 @@ public final class MessageProto {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
-  public interface TaskOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:simple.demo.Task)
+  /**
+   * Protobuf enum {@code simple.demo.Outcome}
+   */
+  public enum Outcome
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>DONE = 0;</code>
+     */
+    DONE(0),
+    /**
+     * <pre>
+     * the deadline passed before the task started, nothing is computed
+     * </pre>
+     *
+     * <code>EXPIRED = 1;</code>
+     */
+    EXPIRED(1),
+    /**
+     * <code>FAILED = 2;</code>
+     */
+    FAILED(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>DONE = 0;</code>
+     */
+    public static final int DONE_VALUE = 0;
+    /**
+     * <pre>
+     * the deadline passed before the task started, nothing is computed
+     * </pre>
+     *
+     * <code>EXPIRED = 1;</code>
+     */
+    public static final int EXPIRED_VALUE = 1;
+    /**
+     * <code>FAILED = 2;</code>
+     */
+    public static final int FAILED_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Outcome valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static Outcome forNumber(int value) {
+      switch (value) {
+        case 0: return DONE;
+        case 1: return EXPIRED;
+        case 2: return FAILED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Outcome>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Outcome> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Outcome>() {
+            public Outcome findValueByNumber(int number) {
+              return Outcome.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Outcome[] VALUES = values();
+
+    public static Outcome valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Outcome(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:simple.demo.Outcome)
+  }
+
+  public interface FactorialOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.Factorial)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 index = 1;</code>
+     * <code>int32 n = 1;</code>
      */
-    int getIndex();
+    int getN();
   }
   /**
-   * Protobuf type {@code simple.demo.Task}
+   * <pre>
+   * n! computed by the product tree
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.Factorial}
    */
-  public  static final class Task extends
+  public  static final class Factorial extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:simple.demo.Task)
-      TaskOrBuilder {
+      // @@protoc_insertion_point(message_implements:simple.demo.Factorial)
+      FactorialOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Task.newBuilder() to construct.
-    private Task(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Factorial.newBuilder() to construct.
+    private Factorial(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Task() {
+    private Factorial() {
     }
 
-    @Override
+    @java.lang.Override
     public final com.google.protobuf.UnknownFieldSet
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Task(
+    private Factorial(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       this();
       if (extensionRegistry == null) {
-        throw new NullPointerException();
+        throw new java.lang.NullPointerException();
       }
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
@@ -64,7 +183,7 @@ public final class MessageProto {
               break;
             case 8: {
 
-              index_ = input.readInt32();
+              n_ = input.readInt32();
               break;
             }
             default: {
@@ -88,28 +207,28 @@ public final class MessageProto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return MessageProto.internal_static_simple_demo_Task_descriptor;
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Factorial_descriptor;
     }
 
-    @Override
+    @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return MessageProto.internal_static_simple_demo_Task_fieldAccessorTable
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Factorial_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              Task.class, Builder.class);
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder.class);
     }
 
-    public static final int INDEX_FIELD_NUMBER = 1;
-    private int index_;
+    public static final int N_FIELD_NUMBER = 1;
+    private int n_;
     /**
-     * <code>int32 index = 1;</code>
+     * <code>int32 n = 1;</code>
      */
-    public int getIndex() {
-      return index_;
+    public int getN() {
+      return n_;
     }
 
     private byte memoizedIsInitialized = -1;
-    @Override
+    @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
@@ -119,123 +238,123 @@ public final class MessageProto {
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (index_ != 0) {
-        output.writeInt32(1, index_);
+      if (n_ != 0) {
+        output.writeInt32(1, n_);
       }
       unknownFields.writeTo(output);
     }
 
-    @Override
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
 
       size = 0;
-      if (index_ != 0) {
+      if (n_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, index_);
+          .computeInt32Size(1, n_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    @Override
-    public boolean equals(final Object obj) {
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof Task)) {
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial)) {
         return super.equals(obj);
       }
-      Task other = (Task) obj;
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) obj;
 
-      if (getIndex()
-          != other.getIndex()) return false;
+      if (getN()
+          != other.getN()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public int hashCode() {
       if (memoizedHashCode != 0) {
         return memoizedHashCode;
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + INDEX_FIELD_NUMBER;
-      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + N_FIELD_NUMBER;
+      hash = (53 * hash) + getN();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static Task parseFrom(byte[] data)
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static Task parseFrom(java.io.InputStream input)
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static Task parseDelimitedFrom(java.io.InputStream input)
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static Task parseDelimitedFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static Task parseFrom(
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -243,47 +362,51 @@ public final class MessageProto {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    @Override
+    @java.lang.Override
     public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(Task prototype) {
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-    @Override
+    @java.lang.Override
     public Builder toBuilder() {
       return this == DEFAULT_INSTANCE
           ? new Builder() : new Builder().mergeFrom(this);
     }
 
-    @Override
+    @java.lang.Override
     protected Builder newBuilderForType(
         com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
     /**
-     * Protobuf type {@code simple.demo.Task}
+     * <pre>
+     * n! computed by the product tree
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.Factorial}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:simple.demo.Task)
-        TaskOrBuilder {
+        // @@protoc_insertion_point(builder_implements:simple.demo.Factorial)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return MessageProto.internal_static_simple_demo_Task_descriptor;
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Factorial_descriptor;
       }
 
-      @Override
+      @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return MessageProto.internal_static_simple_demo_Task_fieldAccessorTable
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Factorial_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                Task.class, Builder.class);
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder.class);
       }
 
-      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.newBuilder()
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -298,109 +421,109 @@ public final class MessageProto {
                 .alwaysUseFieldBuilders) {
         }
       }
-      @Override
+      @java.lang.Override
       public Builder clear() {
         super.clear();
-        index_ = 0;
+        n_ = 0;
 
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return MessageProto.internal_static_simple_demo_Task_descriptor;
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Factorial_descriptor;
       }
 
-      @Override
-      public Task getDefaultInstanceForType() {
-        return Task.getDefaultInstance();
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
       }
 
-      @Override
-      public Task build() {
-        Task result = buildPartial();
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override
-      public Task buildPartial() {
-        Task result = new Task(this);
-        result.index_ = index_;
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial(this);
+        result.n_ = n_;
         onBuilt();
         return result;
       }
 
-      @Override
+      @java.lang.Override
       public Builder clone() {
         return super.clone();
       }
-      @Override
+      @java.lang.Override
       public Builder setField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
+          java.lang.Object value) {
         return super.setField(field, value);
       }
-      @Override
+      @java.lang.Override
       public Builder clearField(
           com.google.protobuf.Descriptors.FieldDescriptor field) {
         return super.clearField(field);
       }
-      @Override
+      @java.lang.Override
       public Builder clearOneof(
           com.google.protobuf.Descriptors.OneofDescriptor oneof) {
         return super.clearOneof(oneof);
       }
-      @Override
+      @java.lang.Override
       public Builder setRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, Object value) {
+          int index, java.lang.Object value) {
         return super.setRepeatedField(field, index, value);
       }
-      @Override
+      @java.lang.Override
       public Builder addRepeatedField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
-          Object value) {
+          java.lang.Object value) {
         return super.addRepeatedField(field, value);
       }
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof Task) {
-          return mergeFrom((Task)other);
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(Task other) {
-        if (other == Task.getDefaultInstance()) return this;
-        if (other.getIndex() != 0) {
-          setIndex(other.getIndex());
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance()) return this;
+        if (other.getN() != 0) {
+          setN(other.getN());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public final boolean isInitialized() {
         return true;
       }
 
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        Task parsedMessage = null;
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (Task) e.getUnfinishedMessage();
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -410,120 +533,10143 @@ public final class MessageProto {
         return this;
       }
 
-      private int index_ ;
+      private int n_ ;
       /**
-       * <code>int32 index = 1;</code>
+       * <code>int32 n = 1;</code>
        */
-      public int getIndex() {
-        return index_;
+      public int getN() {
+        return n_;
       }
       /**
-       * <code>int32 index = 1;</code>
+       * <code>int32 n = 1;</code>
        */
-      public Builder setIndex(int value) {
+      public Builder setN(int value) {
         
-        index_ = value;
+        n_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 index = 1;</code>
+       * <code>int32 n = 1;</code>
        */
-      public Builder clearIndex() {
+      public Builder clearN() {
         
-        index_ = 0;
+        n_ = 0;
         onChanged();
         return this;
       }
-      @Override
+      @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
       }
 
-      @Override
+      @java.lang.Override
       public final Builder mergeUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.mergeUnknownFields(unknownFields);
       }
 
 
-      // @@protoc_insertion_point(builder_scope:simple.demo.Task)
+      // @@protoc_insertion_point(builder_scope:simple.demo.Factorial)
     }
 
-    // @@protoc_insertion_point(class_scope:simple.demo.Task)
-    private static final Task DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:simple.demo.Factorial)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new Task();
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial();
     }
 
-    public static Task getDefaultInstance() {
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Task>
-        PARSER = new com.google.protobuf.AbstractParser<Task>() {
-      @Override
-      public Task parsePartialFrom(
+    private static final com.google.protobuf.Parser<Factorial>
+        PARSER = new com.google.protobuf.AbstractParser<Factorial>() {
+      @java.lang.Override
+      public Factorial parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Task(input, extensionRegistry);
+        return new Factorial(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Task> parser() {
+    public static com.google.protobuf.Parser<Factorial> parser() {
       return PARSER;
     }
 
-    @Override
-    public com.google.protobuf.Parser<Task> getParserForType() {
+    @java.lang.Override
+    public com.google.protobuf.Parser<Factorial> getParserForType() {
       return PARSER;
     }
 
-    @Override
-    public Task getDefaultInstanceForType() {
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_simple_demo_Task_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_simple_demo_Task_fieldAccessorTable;
+  public interface FibonacciOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.Fibonacci)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>int32 n = 1;</code>
+     */
+    int getN();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    String[] descriptorData = {
-      "\n\rmessage.proto\022\013simple.demo\"\025\n\004Task\022\r\n\005" +
-      "index\030\001 \001(\005B3\n#mykhalishyn.akka.cluster." +
-      "demo.actorB\014MessageProtob\006proto3"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
+  /**
+   * <pre>
+   * n-th Fibonacci number
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.Fibonacci}
+   */
+  public  static final class Fibonacci extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.Fibonacci)
+      FibonacciOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Fibonacci.newBuilder() to construct.
+    private Fibonacci(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Fibonacci() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Fibonacci(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              n_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
           }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
-    internal_static_simple_demo_Task_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_simple_demo_Task_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_simple_demo_Task_descriptor,
-        new String[] { "Index", });
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Fibonacci_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Fibonacci_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder.class);
+    }
+
+    public static final int N_FIELD_NUMBER = 1;
+    private int n_;
+    /**
+     * <code>int32 n = 1;</code>
+     */
+    public int getN() {
+      return n_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (n_ != 0) {
+        output.writeInt32(1, n_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (n_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, n_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) obj;
+
+      if (getN()
+          != other.getN()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + N_FIELD_NUMBER;
+      hash = (53 * hash) + getN();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * n-th Fibonacci number
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.Fibonacci}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.Fibonacci)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Fibonacci_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Fibonacci_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        n_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Fibonacci_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci(this);
+        result.n_ = n_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance()) return this;
+        if (other.getN() != 0) {
+          setN(other.getN());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int n_ ;
+      /**
+       * <code>int32 n = 1;</code>
+       */
+      public int getN() {
+        return n_;
+      }
+      /**
+       * <code>int32 n = 1;</code>
+       */
+      public Builder setN(int value) {
+        
+        n_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 n = 1;</code>
+       */
+      public Builder clearN() {
+        
+        n_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.Fibonacci)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.Fibonacci)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Fibonacci>
+        PARSER = new com.google.protobuf.AbstractParser<Fibonacci>() {
+      @java.lang.Override
+      public Fibonacci parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Fibonacci(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Fibonacci> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Fibonacci> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PrimeCountOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.PrimeCount)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 limit = 1;</code>
+     */
+    int getLimit();
+  }
+  /**
+   * <pre>
+   * amount of primes not greater than the limit
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.PrimeCount}
+   */
+  public  static final class PrimeCount extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.PrimeCount)
+      PrimeCountOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PrimeCount.newBuilder() to construct.
+    private PrimeCount(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PrimeCount() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PrimeCount(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              limit_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PrimeCount_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PrimeCount_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder.class);
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 1;
+    private int limit_;
+    /**
+     * <code>int32 limit = 1;</code>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (limit_ != 0) {
+        output.writeInt32(1, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) obj;
+
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + getLimit();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * amount of primes not greater than the limit
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.PrimeCount}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.PrimeCount)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PrimeCount_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PrimeCount_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        limit_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PrimeCount_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount(this);
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance()) return this;
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>int32 limit = 1;</code>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>int32 limit = 1;</code>
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 limit = 1;</code>
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.PrimeCount)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.PrimeCount)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PrimeCount>
+        PARSER = new com.google.protobuf.AbstractParser<PrimeCount>() {
+      @java.lang.Override
+      public PrimeCount parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PrimeCount(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PrimeCount> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PrimeCount> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ComputationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.Computation)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    boolean hasFactorial();
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getFactorial();
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder getFactorialOrBuilder();
+
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    boolean hasFibonacci();
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getFibonacci();
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder getFibonacciOrBuilder();
+
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    boolean hasPrimeCount();
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getPrimeCount();
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder getPrimeCountOrBuilder();
+
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.KernelCase getKernelCase();
+  }
+  /**
+   * <pre>
+   * the kernel of the task with its parameters, not set - the factorial of 10000
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.Computation}
+   */
+  public  static final class Computation extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.Computation)
+      ComputationOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Computation.newBuilder() to construct.
+    private Computation(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Computation() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Computation(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder subBuilder = null;
+              if (kernelCase_ == 1) {
+                subBuilder = ((mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_).toBuilder();
+              }
+              kernel_ =
+                  input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_);
+                kernel_ = subBuilder.buildPartial();
+              }
+              kernelCase_ = 1;
+              break;
+            }
+            case 18: {
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder subBuilder = null;
+              if (kernelCase_ == 2) {
+                subBuilder = ((mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_).toBuilder();
+              }
+              kernel_ =
+                  input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_);
+                kernel_ = subBuilder.buildPartial();
+              }
+              kernelCase_ = 2;
+              break;
+            }
+            case 26: {
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder subBuilder = null;
+              if (kernelCase_ == 3) {
+                subBuilder = ((mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_).toBuilder();
+              }
+              kernel_ =
+                  input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_);
+                kernel_ = subBuilder.buildPartial();
+              }
+              kernelCase_ = 3;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Computation_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Computation_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder.class);
+    }
+
+    private int kernelCase_ = 0;
+    private java.lang.Object kernel_;
+    public enum KernelCase
+        implements com.google.protobuf.Internal.EnumLite {
+      FACTORIAL(1),
+      FIBONACCI(2),
+      PRIME_COUNT(3),
+      KERNEL_NOT_SET(0);
+      private final int value;
+      private KernelCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static KernelCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static KernelCase forNumber(int value) {
+        switch (value) {
+          case 1: return FACTORIAL;
+          case 2: return FIBONACCI;
+          case 3: return PRIME_COUNT;
+          case 0: return KERNEL_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public KernelCase
+    getKernelCase() {
+      return KernelCase.forNumber(
+          kernelCase_);
+    }
+
+    public static final int FACTORIAL_FIELD_NUMBER = 1;
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    public boolean hasFactorial() {
+      return kernelCase_ == 1;
+    }
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getFactorial() {
+      if (kernelCase_ == 1) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+    }
+    /**
+     * <code>.simple.demo.Factorial factorial = 1;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder getFactorialOrBuilder() {
+      if (kernelCase_ == 1) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+    }
+
+    public static final int FIBONACCI_FIELD_NUMBER = 2;
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    public boolean hasFibonacci() {
+      return kernelCase_ == 2;
+    }
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getFibonacci() {
+      if (kernelCase_ == 2) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+    }
+    /**
+     * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder getFibonacciOrBuilder() {
+      if (kernelCase_ == 2) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+    }
+
+    public static final int PRIME_COUNT_FIELD_NUMBER = 3;
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    public boolean hasPrimeCount() {
+      return kernelCase_ == 3;
+    }
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getPrimeCount() {
+      if (kernelCase_ == 3) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+    }
+    /**
+     * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder getPrimeCountOrBuilder() {
+      if (kernelCase_ == 3) {
+         return (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_;
+      }
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (kernelCase_ == 1) {
+        output.writeMessage(1, (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_);
+      }
+      if (kernelCase_ == 2) {
+        output.writeMessage(2, (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_);
+      }
+      if (kernelCase_ == 3) {
+        output.writeMessage(3, (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (kernelCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_);
+      }
+      if (kernelCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_);
+      }
+      if (kernelCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation) obj;
+
+      if (!getKernelCase().equals(other.getKernelCase())) return false;
+      switch (kernelCase_) {
+        case 1:
+          if (!getFactorial()
+              .equals(other.getFactorial())) return false;
+          break;
+        case 2:
+          if (!getFibonacci()
+              .equals(other.getFibonacci())) return false;
+          break;
+        case 3:
+          if (!getPrimeCount()
+              .equals(other.getPrimeCount())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      switch (kernelCase_) {
+        case 1:
+          hash = (37 * hash) + FACTORIAL_FIELD_NUMBER;
+          hash = (53 * hash) + getFactorial().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + FIBONACCI_FIELD_NUMBER;
+          hash = (53 * hash) + getFibonacci().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + PRIME_COUNT_FIELD_NUMBER;
+          hash = (53 * hash) + getPrimeCount().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * the kernel of the task with its parameters, not set - the factorial of 10000
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.Computation}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.Computation)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Computation_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Computation_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        kernelCase_ = 0;
+        kernel_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Computation_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation(this);
+        if (kernelCase_ == 1) {
+          if (factorialBuilder_ == null) {
+            result.kernel_ = kernel_;
+          } else {
+            result.kernel_ = factorialBuilder_.build();
+          }
+        }
+        if (kernelCase_ == 2) {
+          if (fibonacciBuilder_ == null) {
+            result.kernel_ = kernel_;
+          } else {
+            result.kernel_ = fibonacciBuilder_.build();
+          }
+        }
+        if (kernelCase_ == 3) {
+          if (primeCountBuilder_ == null) {
+            result.kernel_ = kernel_;
+          } else {
+            result.kernel_ = primeCountBuilder_.build();
+          }
+        }
+        result.kernelCase_ = kernelCase_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance()) return this;
+        switch (other.getKernelCase()) {
+          case FACTORIAL: {
+            mergeFactorial(other.getFactorial());
+            break;
+          }
+          case FIBONACCI: {
+            mergeFibonacci(other.getFibonacci());
+            break;
+          }
+          case PRIME_COUNT: {
+            mergePrimeCount(other.getPrimeCount());
+            break;
+          }
+          case KERNEL_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int kernelCase_ = 0;
+      private java.lang.Object kernel_;
+      public KernelCase
+          getKernelCase() {
+        return KernelCase.forNumber(
+            kernelCase_);
+      }
+
+      public Builder clearKernel() {
+        kernelCase_ = 0;
+        kernel_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial, mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder> factorialBuilder_;
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public boolean hasFactorial() {
+        return kernelCase_ == 1;
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial getFactorial() {
+        if (factorialBuilder_ == null) {
+          if (kernelCase_ == 1) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+        } else {
+          if (kernelCase_ == 1) {
+            return factorialBuilder_.getMessage();
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public Builder setFactorial(mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial value) {
+        if (factorialBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          kernel_ = value;
+          onChanged();
+        } else {
+          factorialBuilder_.setMessage(value);
+        }
+        kernelCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public Builder setFactorial(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder builderForValue) {
+        if (factorialBuilder_ == null) {
+          kernel_ = builderForValue.build();
+          onChanged();
+        } else {
+          factorialBuilder_.setMessage(builderForValue.build());
+        }
+        kernelCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public Builder mergeFactorial(mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial value) {
+        if (factorialBuilder_ == null) {
+          if (kernelCase_ == 1 &&
+              kernel_ != mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance()) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.newBuilder((mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            kernel_ = value;
+          }
+          onChanged();
+        } else {
+          if (kernelCase_ == 1) {
+            factorialBuilder_.mergeFrom(value);
+          }
+          factorialBuilder_.setMessage(value);
+        }
+        kernelCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public Builder clearFactorial() {
+        if (factorialBuilder_ == null) {
+          if (kernelCase_ == 1) {
+            kernelCase_ = 0;
+            kernel_ = null;
+            onChanged();
+          }
+        } else {
+          if (kernelCase_ == 1) {
+            kernelCase_ = 0;
+            kernel_ = null;
+          }
+          factorialBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder getFactorialBuilder() {
+        return getFactorialFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder getFactorialOrBuilder() {
+        if ((kernelCase_ == 1) && (factorialBuilder_ != null)) {
+          return factorialBuilder_.getMessageOrBuilder();
+        } else {
+          if (kernelCase_ == 1) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.Factorial factorial = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial, mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder> 
+          getFactorialFieldBuilder() {
+        if (factorialBuilder_ == null) {
+          if (!(kernelCase_ == 1)) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.getDefaultInstance();
+          }
+          factorialBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial, mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FactorialOrBuilder>(
+                  (mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial) kernel_,
+                  getParentForChildren(),
+                  isClean());
+          kernel_ = null;
+        }
+        kernelCase_ = 1;
+        onChanged();;
+        return factorialBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci, mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder> fibonacciBuilder_;
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public boolean hasFibonacci() {
+        return kernelCase_ == 2;
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci getFibonacci() {
+        if (fibonacciBuilder_ == null) {
+          if (kernelCase_ == 2) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+        } else {
+          if (kernelCase_ == 2) {
+            return fibonacciBuilder_.getMessage();
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public Builder setFibonacci(mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci value) {
+        if (fibonacciBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          kernel_ = value;
+          onChanged();
+        } else {
+          fibonacciBuilder_.setMessage(value);
+        }
+        kernelCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public Builder setFibonacci(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder builderForValue) {
+        if (fibonacciBuilder_ == null) {
+          kernel_ = builderForValue.build();
+          onChanged();
+        } else {
+          fibonacciBuilder_.setMessage(builderForValue.build());
+        }
+        kernelCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public Builder mergeFibonacci(mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci value) {
+        if (fibonacciBuilder_ == null) {
+          if (kernelCase_ == 2 &&
+              kernel_ != mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance()) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.newBuilder((mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            kernel_ = value;
+          }
+          onChanged();
+        } else {
+          if (kernelCase_ == 2) {
+            fibonacciBuilder_.mergeFrom(value);
+          }
+          fibonacciBuilder_.setMessage(value);
+        }
+        kernelCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public Builder clearFibonacci() {
+        if (fibonacciBuilder_ == null) {
+          if (kernelCase_ == 2) {
+            kernelCase_ = 0;
+            kernel_ = null;
+            onChanged();
+          }
+        } else {
+          if (kernelCase_ == 2) {
+            kernelCase_ = 0;
+            kernel_ = null;
+          }
+          fibonacciBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder getFibonacciBuilder() {
+        return getFibonacciFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder getFibonacciOrBuilder() {
+        if ((kernelCase_ == 2) && (fibonacciBuilder_ != null)) {
+          return fibonacciBuilder_.getMessageOrBuilder();
+        } else {
+          if (kernelCase_ == 2) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.Fibonacci fibonacci = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci, mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder> 
+          getFibonacciFieldBuilder() {
+        if (fibonacciBuilder_ == null) {
+          if (!(kernelCase_ == 2)) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.getDefaultInstance();
+          }
+          fibonacciBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci, mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.FibonacciOrBuilder>(
+                  (mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci) kernel_,
+                  getParentForChildren(),
+                  isClean());
+          kernel_ = null;
+        }
+        kernelCase_ = 2;
+        onChanged();;
+        return fibonacciBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder> primeCountBuilder_;
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public boolean hasPrimeCount() {
+        return kernelCase_ == 3;
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount getPrimeCount() {
+        if (primeCountBuilder_ == null) {
+          if (kernelCase_ == 3) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+        } else {
+          if (kernelCase_ == 3) {
+            return primeCountBuilder_.getMessage();
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public Builder setPrimeCount(mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount value) {
+        if (primeCountBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          kernel_ = value;
+          onChanged();
+        } else {
+          primeCountBuilder_.setMessage(value);
+        }
+        kernelCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public Builder setPrimeCount(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder builderForValue) {
+        if (primeCountBuilder_ == null) {
+          kernel_ = builderForValue.build();
+          onChanged();
+        } else {
+          primeCountBuilder_.setMessage(builderForValue.build());
+        }
+        kernelCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public Builder mergePrimeCount(mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount value) {
+        if (primeCountBuilder_ == null) {
+          if (kernelCase_ == 3 &&
+              kernel_ != mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance()) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.newBuilder((mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            kernel_ = value;
+          }
+          onChanged();
+        } else {
+          if (kernelCase_ == 3) {
+            primeCountBuilder_.mergeFrom(value);
+          }
+          primeCountBuilder_.setMessage(value);
+        }
+        kernelCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public Builder clearPrimeCount() {
+        if (primeCountBuilder_ == null) {
+          if (kernelCase_ == 3) {
+            kernelCase_ = 0;
+            kernel_ = null;
+            onChanged();
+          }
+        } else {
+          if (kernelCase_ == 3) {
+            kernelCase_ = 0;
+            kernel_ = null;
+          }
+          primeCountBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder getPrimeCountBuilder() {
+        return getPrimeCountFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder getPrimeCountOrBuilder() {
+        if ((kernelCase_ == 3) && (primeCountBuilder_ != null)) {
+          return primeCountBuilder_.getMessageOrBuilder();
+        } else {
+          if (kernelCase_ == 3) {
+            return (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_;
+          }
+          return mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.simple.demo.PrimeCount prime_count = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder> 
+          getPrimeCountFieldBuilder() {
+        if (primeCountBuilder_ == null) {
+          if (!(kernelCase_ == 3)) {
+            kernel_ = mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.getDefaultInstance();
+          }
+          primeCountBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCountOrBuilder>(
+                  (mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount) kernel_,
+                  getParentForChildren(),
+                  isClean());
+          kernel_ = null;
+        }
+        kernelCase_ = 3;
+        onChanged();;
+        return primeCountBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.Computation)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.Computation)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Computation>
+        PARSER = new com.google.protobuf.AbstractParser<Computation>() {
+      @java.lang.Override
+      public Computation parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Computation(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Computation> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Computation> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.Task)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 index = 1;</code>
+     */
+    int getIndex();
+
+    /**
+     * <pre>
+     * epoch millis after which nobody waits for the result, 0 - no deadline
+     * </pre>
+     *
+     * <code>int64 deadline = 2;</code>
+     */
+    long getDeadline();
+
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    boolean hasComputation();
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation();
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder();
+
+    /**
+     * <pre>
+     * epoch millis the task is sent at, 0 - unknown
+     * </pre>
+     *
+     * <code>int64 sent_at = 4;</code>
+     */
+    long getSentAt();
+
+    /**
+     * <pre>
+     * the worker answers with a stream reference to the digits of the value instead of the task result,
+     * the task result is only sent if the task expired or failed
+     * </pre>
+     *
+     * <code>bool stream_value = 5;</code>
+     */
+    boolean getStreamValue();
+  }
+  /**
+   * Protobuf type {@code simple.demo.Task}
+   */
+  public  static final class Task extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.Task)
+      TaskOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Task.newBuilder() to construct.
+    private Task(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Task() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Task(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              index_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              deadline_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder subBuilder = null;
+              if (computation_ != null) {
+                subBuilder = computation_.toBuilder();
+              }
+              computation_ = input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(computation_);
+                computation_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 32: {
+
+              sentAt_ = input.readInt64();
+              break;
+            }
+            case 40: {
+
+              streamValue_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Task_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Task_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.Builder.class);
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 1;
+    private int index_;
+    /**
+     * <code>int32 index = 1;</code>
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int DEADLINE_FIELD_NUMBER = 2;
+    private long deadline_;
+    /**
+     * <pre>
+     * epoch millis after which nobody waits for the result, 0 - no deadline
+     * </pre>
+     *
+     * <code>int64 deadline = 2;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
+    public static final int COMPUTATION_FIELD_NUMBER = 3;
+    private mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation computation_;
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    public boolean hasComputation() {
+      return computation_ != null;
+    }
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation() {
+      return computation_ == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+    }
+    /**
+     * <code>.simple.demo.Computation computation = 3;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder() {
+      return getComputation();
+    }
+
+    public static final int SENT_AT_FIELD_NUMBER = 4;
+    private long sentAt_;
+    /**
+     * <pre>
+     * epoch millis the task is sent at, 0 - unknown
+     * </pre>
+     *
+     * <code>int64 sent_at = 4;</code>
+     */
+    public long getSentAt() {
+      return sentAt_;
+    }
+
+    public static final int STREAM_VALUE_FIELD_NUMBER = 5;
+    private boolean streamValue_;
+    /**
+     * <pre>
+     * the worker answers with a stream reference to the digits of the value instead of the task result,
+     * the task result is only sent if the task expired or failed
+     * </pre>
+     *
+     * <code>bool stream_value = 5;</code>
+     */
+    public boolean getStreamValue() {
+      return streamValue_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (index_ != 0) {
+        output.writeInt32(1, index_);
+      }
+      if (deadline_ != 0L) {
+        output.writeInt64(2, deadline_);
+      }
+      if (computation_ != null) {
+        output.writeMessage(3, getComputation());
+      }
+      if (sentAt_ != 0L) {
+        output.writeInt64(4, sentAt_);
+      }
+      if (streamValue_ != false) {
+        output.writeBool(5, streamValue_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (index_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, index_);
+      }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, deadline_);
+      }
+      if (computation_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getComputation());
+      }
+      if (sentAt_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, sentAt_);
+      }
+      if (streamValue_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, streamValue_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Task)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.Task other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Task) obj;
+
+      if (getIndex()
+          != other.getIndex()) return false;
+      if (getDeadline()
+          != other.getDeadline()) return false;
+      if (hasComputation() != other.hasComputation()) return false;
+      if (hasComputation()) {
+        if (!getComputation()
+            .equals(other.getComputation())) return false;
+      }
+      if (getSentAt()
+          != other.getSentAt()) return false;
+      if (getStreamValue()
+          != other.getStreamValue()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      if (hasComputation()) {
+        hash = (37 * hash) + COMPUTATION_FIELD_NUMBER;
+        hash = (53 * hash) + getComputation().hashCode();
+      }
+      hash = (37 * hash) + SENT_AT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSentAt());
+      hash = (37 * hash) + STREAM_VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getStreamValue());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.Task prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code simple.demo.Task}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.Task)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Task_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Task_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        index_ = 0;
+
+        deadline_ = 0L;
+
+        if (computationBuilder_ == null) {
+          computation_ = null;
+        } else {
+          computation_ = null;
+          computationBuilder_ = null;
+        }
+        sentAt_ = 0L;
+
+        streamValue_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_Task_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Task getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Task build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Task result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Task buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Task result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Task(this);
+        result.index_ = index_;
+        result.deadline_ = deadline_;
+        if (computationBuilder_ == null) {
+          result.computation_ = computation_;
+        } else {
+          result.computation_ = computationBuilder_.build();
+        }
+        result.sentAt_ = sentAt_;
+        result.streamValue_ = streamValue_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.Task) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.Task)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.Task other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.Task.getDefaultInstance()) return this;
+        if (other.getIndex() != 0) {
+          setIndex(other.getIndex());
+        }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        if (other.hasComputation()) {
+          mergeComputation(other.getComputation());
+        }
+        if (other.getSentAt() != 0L) {
+          setSentAt(other.getSentAt());
+        }
+        if (other.getStreamValue() != false) {
+          setStreamValue(other.getStreamValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Task parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.Task) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int index_ ;
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public Builder setIndex(int value) {
+        
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public Builder clearIndex() {
+        
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long deadline_ ;
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 2;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 2;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 2;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation computation_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder> computationBuilder_;
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public boolean hasComputation() {
+        return computationBuilder_ != null || computation_ != null;
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation() {
+        if (computationBuilder_ == null) {
+          return computation_ == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+        } else {
+          return computationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public Builder setComputation(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation value) {
+        if (computationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          computation_ = value;
+          onChanged();
+        } else {
+          computationBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public Builder setComputation(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder builderForValue) {
+        if (computationBuilder_ == null) {
+          computation_ = builderForValue.build();
+          onChanged();
+        } else {
+          computationBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public Builder mergeComputation(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation value) {
+        if (computationBuilder_ == null) {
+          if (computation_ != null) {
+            computation_ =
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.newBuilder(computation_).mergeFrom(value).buildPartial();
+          } else {
+            computation_ = value;
+          }
+          onChanged();
+        } else {
+          computationBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public Builder clearComputation() {
+        if (computationBuilder_ == null) {
+          computation_ = null;
+          onChanged();
+        } else {
+          computation_ = null;
+          computationBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder getComputationBuilder() {
+        
+        onChanged();
+        return getComputationFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder() {
+        if (computationBuilder_ != null) {
+          return computationBuilder_.getMessageOrBuilder();
+        } else {
+          return computation_ == null ?
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+        }
+      }
+      /**
+       * <code>.simple.demo.Computation computation = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder> 
+          getComputationFieldBuilder() {
+        if (computationBuilder_ == null) {
+          computationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder>(
+                  getComputation(),
+                  getParentForChildren(),
+                  isClean());
+          computation_ = null;
+        }
+        return computationBuilder_;
+      }
+
+      private long sentAt_ ;
+      /**
+       * <pre>
+       * epoch millis the task is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 4;</code>
+       */
+      public long getSentAt() {
+        return sentAt_;
+      }
+      /**
+       * <pre>
+       * epoch millis the task is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 4;</code>
+       */
+      public Builder setSentAt(long value) {
+        
+        sentAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * epoch millis the task is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 4;</code>
+       */
+      public Builder clearSentAt() {
+        
+        sentAt_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean streamValue_ ;
+      /**
+       * <pre>
+       * the worker answers with a stream reference to the digits of the value instead of the task result,
+       * the task result is only sent if the task expired or failed
+       * </pre>
+       *
+       * <code>bool stream_value = 5;</code>
+       */
+      public boolean getStreamValue() {
+        return streamValue_;
+      }
+      /**
+       * <pre>
+       * the worker answers with a stream reference to the digits of the value instead of the task result,
+       * the task result is only sent if the task expired or failed
+       * </pre>
+       *
+       * <code>bool stream_value = 5;</code>
+       */
+      public Builder setStreamValue(boolean value) {
+        
+        streamValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the worker answers with a stream reference to the digits of the value instead of the task result,
+       * the task result is only sent if the task expired or failed
+       * </pre>
+       *
+       * <code>bool stream_value = 5;</code>
+       */
+      public Builder clearStreamValue() {
+        
+        streamValue_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.Task)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.Task)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.Task DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.Task();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.Task getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Task>
+        PARSER = new com.google.protobuf.AbstractParser<Task>() {
+      @java.lang.Override
+      public Task parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Task(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Task> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Task> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Task getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.TaskBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    int getFrom();
+
+    /**
+     * <code>int32 to = 2;</code>
+     */
+    int getTo();
+
+    /**
+     * <pre>
+     * epoch millis after which nobody waits for the result, 0 - no deadline
+     * </pre>
+     *
+     * <code>int64 deadline = 3;</code>
+     */
+    long getDeadline();
+
+    /**
+     * <pre>
+     * 0 - the first attempt, every other attempt of the batch gets the next number
+     * </pre>
+     *
+     * <code>int32 attempt = 4;</code>
+     */
+    int getAttempt();
+
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    boolean hasComputation();
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation();
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder();
+
+    /**
+     * <pre>
+     * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+     * </pre>
+     *
+     * <code>string key = 6;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <pre>
+     * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+     * </pre>
+     *
+     * <code>string key = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <pre>
+     * id of the batch given by the puller in the pull mode, echoed in the result
+     * </pre>
+     *
+     * <code>int64 correlation_id = 7;</code>
+     */
+    long getCorrelationId();
+
+    /**
+     * <pre>
+     * epoch millis the batch is sent at, 0 - unknown
+     * </pre>
+     *
+     * <code>int64 sent_at = 8;</code>
+     */
+    long getSentAt();
+
+    /**
+     * <pre>
+     * random id of the request the batch belongs to, spreads the batches without a key in the sharding mode
+     * </pre>
+     *
+     * <code>int64 request_id = 9;</code>
+     */
+    long getRequestId();
+  }
+  /**
+   * <pre>
+   * range of task indices [from, to) processed by one worker with a single reply
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.TaskBatch}
+   */
+  public  static final class TaskBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.TaskBatch)
+      TaskBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskBatch.newBuilder() to construct.
+    private TaskBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskBatch() {
+      key_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              from_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              to_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              deadline_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              attempt_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder subBuilder = null;
+              if (computation_ != null) {
+                subBuilder = computation_.toBuilder();
+              }
+              computation_ = input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(computation_);
+                computation_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              key_ = s;
+              break;
+            }
+            case 56: {
+
+              correlationId_ = input.readInt64();
+              break;
+            }
+            case 64: {
+
+              sentAt_ = input.readInt64();
+              break;
+            }
+            case 72: {
+
+              requestId_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder.class);
+    }
+
+    public static final int FROM_FIELD_NUMBER = 1;
+    private int from_;
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    public int getFrom() {
+      return from_;
+    }
+
+    public static final int TO_FIELD_NUMBER = 2;
+    private int to_;
+    /**
+     * <code>int32 to = 2;</code>
+     */
+    public int getTo() {
+      return to_;
+    }
+
+    public static final int DEADLINE_FIELD_NUMBER = 3;
+    private long deadline_;
+    /**
+     * <pre>
+     * epoch millis after which nobody waits for the result, 0 - no deadline
+     * </pre>
+     *
+     * <code>int64 deadline = 3;</code>
+     */
+    public long getDeadline() {
+      return deadline_;
+    }
+
+    public static final int ATTEMPT_FIELD_NUMBER = 4;
+    private int attempt_;
+    /**
+     * <pre>
+     * 0 - the first attempt, every other attempt of the batch gets the next number
+     * </pre>
+     *
+     * <code>int32 attempt = 4;</code>
+     */
+    public int getAttempt() {
+      return attempt_;
+    }
+
+    public static final int COMPUTATION_FIELD_NUMBER = 5;
+    private mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation computation_;
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    public boolean hasComputation() {
+      return computation_ != null;
+    }
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation() {
+      return computation_ == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+    }
+    /**
+     * <pre>
+     * the same computation for every task of the batch
+     * </pre>
+     *
+     * <code>.simple.demo.Computation computation = 5;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder() {
+      return getComputation();
+    }
+
+    public static final int KEY_FIELD_NUMBER = 6;
+    private volatile java.lang.Object key_;
+    /**
+     * <pre>
+     * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+     * </pre>
+     *
+     * <code>string key = 6;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+     * </pre>
+     *
+     * <code>string key = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CORRELATION_ID_FIELD_NUMBER = 7;
+    private long correlationId_;
+    /**
+     * <pre>
+     * id of the batch given by the puller in the pull mode, echoed in the result
+     * </pre>
+     *
+     * <code>int64 correlation_id = 7;</code>
+     */
+    public long getCorrelationId() {
+      return correlationId_;
+    }
+
+    public static final int SENT_AT_FIELD_NUMBER = 8;
+    private long sentAt_;
+    /**
+     * <pre>
+     * epoch millis the batch is sent at, 0 - unknown
+     * </pre>
+     *
+     * <code>int64 sent_at = 8;</code>
+     */
+    public long getSentAt() {
+      return sentAt_;
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 9;
+    private long requestId_;
+    /**
+     * <pre>
+     * random id of the request the batch belongs to, spreads the batches without a key in the sharding mode
+     * </pre>
+     *
+     * <code>int64 request_id = 9;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (from_ != 0) {
+        output.writeInt32(1, from_);
+      }
+      if (to_ != 0) {
+        output.writeInt32(2, to_);
+      }
+      if (deadline_ != 0L) {
+        output.writeInt64(3, deadline_);
+      }
+      if (attempt_ != 0) {
+        output.writeInt32(4, attempt_);
+      }
+      if (computation_ != null) {
+        output.writeMessage(5, getComputation());
+      }
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, key_);
+      }
+      if (correlationId_ != 0L) {
+        output.writeInt64(7, correlationId_);
+      }
+      if (sentAt_ != 0L) {
+        output.writeInt64(8, sentAt_);
+      }
+      if (requestId_ != 0L) {
+        output.writeInt64(9, requestId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (from_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, from_);
+      }
+      if (to_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, to_);
+      }
+      if (deadline_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, deadline_);
+      }
+      if (attempt_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, attempt_);
+      }
+      if (computation_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getComputation());
+      }
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, key_);
+      }
+      if (correlationId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, correlationId_);
+      }
+      if (sentAt_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, sentAt_);
+      }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, requestId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch) obj;
+
+      if (getFrom()
+          != other.getFrom()) return false;
+      if (getTo()
+          != other.getTo()) return false;
+      if (getDeadline()
+          != other.getDeadline()) return false;
+      if (getAttempt()
+          != other.getAttempt()) return false;
+      if (hasComputation() != other.hasComputation()) return false;
+      if (hasComputation()) {
+        if (!getComputation()
+            .equals(other.getComputation())) return false;
+      }
+      if (!getKey()
+          .equals(other.getKey())) return false;
+      if (getCorrelationId()
+          != other.getCorrelationId()) return false;
+      if (getSentAt()
+          != other.getSentAt()) return false;
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FROM_FIELD_NUMBER;
+      hash = (53 * hash) + getFrom();
+      hash = (37 * hash) + TO_FIELD_NUMBER;
+      hash = (53 * hash) + getTo();
+      hash = (37 * hash) + DEADLINE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeadline());
+      hash = (37 * hash) + ATTEMPT_FIELD_NUMBER;
+      hash = (53 * hash) + getAttempt();
+      if (hasComputation()) {
+        hash = (37 * hash) + COMPUTATION_FIELD_NUMBER;
+        hash = (53 * hash) + getComputation().hashCode();
+      }
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + CORRELATION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCorrelationId());
+      hash = (37 * hash) + SENT_AT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSentAt());
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * range of task indices [from, to) processed by one worker with a single reply
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.TaskBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.TaskBatch)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        from_ = 0;
+
+        to_ = 0;
+
+        deadline_ = 0L;
+
+        attempt_ = 0;
+
+        if (computationBuilder_ == null) {
+          computation_ = null;
+        } else {
+          computation_ = null;
+          computationBuilder_ = null;
+        }
+        key_ = "";
+
+        correlationId_ = 0L;
+
+        sentAt_ = 0L;
+
+        requestId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch(this);
+        result.from_ = from_;
+        result.to_ = to_;
+        result.deadline_ = deadline_;
+        result.attempt_ = attempt_;
+        if (computationBuilder_ == null) {
+          result.computation_ = computation_;
+        } else {
+          result.computation_ = computationBuilder_.build();
+        }
+        result.key_ = key_;
+        result.correlationId_ = correlationId_;
+        result.sentAt_ = sentAt_;
+        result.requestId_ = requestId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.getDefaultInstance()) return this;
+        if (other.getFrom() != 0) {
+          setFrom(other.getFrom());
+        }
+        if (other.getTo() != 0) {
+          setTo(other.getTo());
+        }
+        if (other.getDeadline() != 0L) {
+          setDeadline(other.getDeadline());
+        }
+        if (other.getAttempt() != 0) {
+          setAttempt(other.getAttempt());
+        }
+        if (other.hasComputation()) {
+          mergeComputation(other.getComputation());
+        }
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
+          onChanged();
+        }
+        if (other.getCorrelationId() != 0L) {
+          setCorrelationId(other.getCorrelationId());
+        }
+        if (other.getSentAt() != 0L) {
+          setSentAt(other.getSentAt());
+        }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int from_ ;
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public int getFrom() {
+        return from_;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder setFrom(int value) {
+        
+        from_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder clearFrom() {
+        
+        from_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int to_ ;
+      /**
+       * <code>int32 to = 2;</code>
+       */
+      public int getTo() {
+        return to_;
+      }
+      /**
+       * <code>int32 to = 2;</code>
+       */
+      public Builder setTo(int value) {
+        
+        to_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 to = 2;</code>
+       */
+      public Builder clearTo() {
+        
+        to_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long deadline_ ;
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 3;</code>
+       */
+      public long getDeadline() {
+        return deadline_;
+      }
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 3;</code>
+       */
+      public Builder setDeadline(long value) {
+        
+        deadline_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * epoch millis after which nobody waits for the result, 0 - no deadline
+       * </pre>
+       *
+       * <code>int64 deadline = 3;</code>
+       */
+      public Builder clearDeadline() {
+        
+        deadline_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int attempt_ ;
+      /**
+       * <pre>
+       * 0 - the first attempt, every other attempt of the batch gets the next number
+       * </pre>
+       *
+       * <code>int32 attempt = 4;</code>
+       */
+      public int getAttempt() {
+        return attempt_;
+      }
+      /**
+       * <pre>
+       * 0 - the first attempt, every other attempt of the batch gets the next number
+       * </pre>
+       *
+       * <code>int32 attempt = 4;</code>
+       */
+      public Builder setAttempt(int value) {
+        
+        attempt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * 0 - the first attempt, every other attempt of the batch gets the next number
+       * </pre>
+       *
+       * <code>int32 attempt = 4;</code>
+       */
+      public Builder clearAttempt() {
+        
+        attempt_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation computation_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder> computationBuilder_;
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public boolean hasComputation() {
+        return computationBuilder_ != null || computation_ != null;
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation getComputation() {
+        if (computationBuilder_ == null) {
+          return computation_ == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+        } else {
+          return computationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public Builder setComputation(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation value) {
+        if (computationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          computation_ = value;
+          onChanged();
+        } else {
+          computationBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public Builder setComputation(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder builderForValue) {
+        if (computationBuilder_ == null) {
+          computation_ = builderForValue.build();
+          onChanged();
+        } else {
+          computationBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public Builder mergeComputation(mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation value) {
+        if (computationBuilder_ == null) {
+          if (computation_ != null) {
+            computation_ =
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.newBuilder(computation_).mergeFrom(value).buildPartial();
+          } else {
+            computation_ = value;
+          }
+          onChanged();
+        } else {
+          computationBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public Builder clearComputation() {
+        if (computationBuilder_ == null) {
+          computation_ = null;
+          onChanged();
+        } else {
+          computation_ = null;
+          computationBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder getComputationBuilder() {
+        
+        onChanged();
+        return getComputationFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder getComputationOrBuilder() {
+        if (computationBuilder_ != null) {
+          return computationBuilder_.getMessageOrBuilder();
+        } else {
+          return computation_ == null ?
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.getDefaultInstance() : computation_;
+        }
+      }
+      /**
+       * <pre>
+       * the same computation for every task of the batch
+       * </pre>
+       *
+       * <code>.simple.demo.Computation computation = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder> 
+          getComputationFieldBuilder() {
+        if (computationBuilder_ == null) {
+          computationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation, mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.ComputationOrBuilder>(
+                  getComputation(),
+                  getParentForChildren(),
+                  isClean());
+          computation_ = null;
+        }
+        return computationBuilder_;
+      }
+
+      private java.lang.Object key_ = "";
+      /**
+       * <pre>
+       * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+       * </pre>
+       *
+       * <code>string key = 6;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+       * </pre>
+       *
+       * <code>string key = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+       * </pre>
+       *
+       * <code>string key = 6;</code>
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+       * </pre>
+       *
+       * <code>string key = 6;</code>
+       */
+      public Builder clearKey() {
+        
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * key of the entity the batch belongs to in the sharding mode, empty - the batch is not keyed
+       * </pre>
+       *
+       * <code>string key = 6;</code>
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long correlationId_ ;
+      /**
+       * <pre>
+       * id of the batch given by the puller in the pull mode, echoed in the result
+       * </pre>
+       *
+       * <code>int64 correlation_id = 7;</code>
+       */
+      public long getCorrelationId() {
+        return correlationId_;
+      }
+      /**
+       * <pre>
+       * id of the batch given by the puller in the pull mode, echoed in the result
+       * </pre>
+       *
+       * <code>int64 correlation_id = 7;</code>
+       */
+      public Builder setCorrelationId(long value) {
+        
+        correlationId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * id of the batch given by the puller in the pull mode, echoed in the result
+       * </pre>
+       *
+       * <code>int64 correlation_id = 7;</code>
+       */
+      public Builder clearCorrelationId() {
+        
+        correlationId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long sentAt_ ;
+      /**
+       * <pre>
+       * epoch millis the batch is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 8;</code>
+       */
+      public long getSentAt() {
+        return sentAt_;
+      }
+      /**
+       * <pre>
+       * epoch millis the batch is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 8;</code>
+       */
+      public Builder setSentAt(long value) {
+        
+        sentAt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * epoch millis the batch is sent at, 0 - unknown
+       * </pre>
+       *
+       * <code>int64 sent_at = 8;</code>
+       */
+      public Builder clearSentAt() {
+        
+        sentAt_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       * random id of the request the batch belongs to, spreads the batches without a key in the sharding mode
+       * </pre>
+       *
+       * <code>int64 request_id = 9;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * random id of the request the batch belongs to, spreads the batches without a key in the sharding mode
+       * </pre>
+       *
+       * <code>int64 request_id = 9;</code>
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * random id of the request the batch belongs to, spreads the batches without a key in the sharding mode
+       * </pre>
+       *
+       * <code>int64 request_id = 9;</code>
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.TaskBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.TaskBatch)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskBatch>
+        PARSER = new com.google.protobuf.AbstractParser<TaskBatch>() {
+      @java.lang.Override
+      public TaskBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.TaskResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 index = 1;</code>
+     */
+    int getIndex();
+
+    /**
+     * <pre>
+     * the node that ran the task, the HOSTNAME of the container
+     * </pre>
+     *
+     * <code>string node = 2;</code>
+     */
+    java.lang.String getNode();
+    /**
+     * <pre>
+     * the node that ran the task, the HOSTNAME of the container
+     * </pre>
+     *
+     * <code>string node = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getNodeBytes();
+
+    /**
+     * <code>.simple.demo.Outcome outcome = 3;</code>
+     */
+    int getOutcomeValue();
+    /**
+     * <code>.simple.demo.Outcome outcome = 3;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome getOutcome();
+
+    /**
+     * <pre>
+     * reason of the failure
+     * </pre>
+     *
+     * <code>string error = 4;</code>
+     */
+    java.lang.String getError();
+    /**
+     * <pre>
+     * reason of the failure
+     * </pre>
+     *
+     * <code>string error = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getErrorBytes();
+
+    /**
+     * <pre>
+     * micros from the send to the start of the task, the clocks of the nodes are assumed in sync
+     * </pre>
+     *
+     * <code>int64 queue_micros = 5;</code>
+     */
+    long getQueueMicros();
+
+    /**
+     * <pre>
+     * micros of the computation, a cached result takes next to nothing
+     * </pre>
+     *
+     * <code>int64 compute_micros = 6;</code>
+     */
+    long getComputeMicros();
+  }
+  /**
+   * <pre>
+   * result of a single task
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.TaskResult}
+   */
+  public  static final class TaskResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.TaskResult)
+      TaskResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskResult.newBuilder() to construct.
+    private TaskResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskResult() {
+      node_ = "";
+      outcome_ = 0;
+      error_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              index_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              node_ = s;
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+
+              outcome_ = rawValue;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              error_ = s;
+              break;
+            }
+            case 40: {
+
+              queueMicros_ = input.readInt64();
+              break;
+            }
+            case 48: {
+
+              computeMicros_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder.class);
+    }
+
+    public static final int INDEX_FIELD_NUMBER = 1;
+    private int index_;
+    /**
+     * <code>int32 index = 1;</code>
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public static final int NODE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object node_;
+    /**
+     * <pre>
+     * the node that ran the task, the HOSTNAME of the container
+     * </pre>
+     *
+     * <code>string node = 2;</code>
+     */
+    public java.lang.String getNode() {
+      java.lang.Object ref = node_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        node_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * the node that ran the task, the HOSTNAME of the container
+     * </pre>
+     *
+     * <code>string node = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNodeBytes() {
+      java.lang.Object ref = node_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        node_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OUTCOME_FIELD_NUMBER = 3;
+    private int outcome_;
+    /**
+     * <code>.simple.demo.Outcome outcome = 3;</code>
+     */
+    public int getOutcomeValue() {
+      return outcome_;
+    }
+    /**
+     * <code>.simple.demo.Outcome outcome = 3;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome getOutcome() {
+      @SuppressWarnings("deprecation")
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome result = mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.valueOf(outcome_);
+      return result == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.UNRECOGNIZED : result;
+    }
+
+    public static final int ERROR_FIELD_NUMBER = 4;
+    private volatile java.lang.Object error_;
+    /**
+     * <pre>
+     * reason of the failure
+     * </pre>
+     *
+     * <code>string error = 4;</code>
+     */
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * reason of the failure
+     * </pre>
+     *
+     * <code>string error = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int QUEUE_MICROS_FIELD_NUMBER = 5;
+    private long queueMicros_;
+    /**
+     * <pre>
+     * micros from the send to the start of the task, the clocks of the nodes are assumed in sync
+     * </pre>
+     *
+     * <code>int64 queue_micros = 5;</code>
+     */
+    public long getQueueMicros() {
+      return queueMicros_;
+    }
+
+    public static final int COMPUTE_MICROS_FIELD_NUMBER = 6;
+    private long computeMicros_;
+    /**
+     * <pre>
+     * micros of the computation, a cached result takes next to nothing
+     * </pre>
+     *
+     * <code>int64 compute_micros = 6;</code>
+     */
+    public long getComputeMicros() {
+      return computeMicros_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (index_ != 0) {
+        output.writeInt32(1, index_);
+      }
+      if (!getNodeBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, node_);
+      }
+      if (outcome_ != mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.DONE.getNumber()) {
+        output.writeEnum(3, outcome_);
+      }
+      if (!getErrorBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, error_);
+      }
+      if (queueMicros_ != 0L) {
+        output.writeInt64(5, queueMicros_);
+      }
+      if (computeMicros_ != 0L) {
+        output.writeInt64(6, computeMicros_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (index_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, index_);
+      }
+      if (!getNodeBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, node_);
+      }
+      if (outcome_ != mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.DONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, outcome_);
+      }
+      if (!getErrorBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, error_);
+      }
+      if (queueMicros_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, queueMicros_);
+      }
+      if (computeMicros_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, computeMicros_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult) obj;
+
+      if (getIndex()
+          != other.getIndex()) return false;
+      if (!getNode()
+          .equals(other.getNode())) return false;
+      if (outcome_ != other.outcome_) return false;
+      if (!getError()
+          .equals(other.getError())) return false;
+      if (getQueueMicros()
+          != other.getQueueMicros()) return false;
+      if (getComputeMicros()
+          != other.getComputeMicros()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + INDEX_FIELD_NUMBER;
+      hash = (53 * hash) + getIndex();
+      hash = (37 * hash) + NODE_FIELD_NUMBER;
+      hash = (53 * hash) + getNode().hashCode();
+      hash = (37 * hash) + OUTCOME_FIELD_NUMBER;
+      hash = (53 * hash) + outcome_;
+      hash = (37 * hash) + ERROR_FIELD_NUMBER;
+      hash = (53 * hash) + getError().hashCode();
+      hash = (37 * hash) + QUEUE_MICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getQueueMicros());
+      hash = (37 * hash) + COMPUTE_MICROS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getComputeMicros());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * result of a single task
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.TaskResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.TaskResult)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        index_ = 0;
+
+        node_ = "";
+
+        outcome_ = 0;
+
+        error_ = "";
+
+        queueMicros_ = 0L;
+
+        computeMicros_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskResult_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult(this);
+        result.index_ = index_;
+        result.node_ = node_;
+        result.outcome_ = outcome_;
+        result.error_ = error_;
+        result.queueMicros_ = queueMicros_;
+        result.computeMicros_ = computeMicros_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.getDefaultInstance()) return this;
+        if (other.getIndex() != 0) {
+          setIndex(other.getIndex());
+        }
+        if (!other.getNode().isEmpty()) {
+          node_ = other.node_;
+          onChanged();
+        }
+        if (other.outcome_ != 0) {
+          setOutcomeValue(other.getOutcomeValue());
+        }
+        if (!other.getError().isEmpty()) {
+          error_ = other.error_;
+          onChanged();
+        }
+        if (other.getQueueMicros() != 0L) {
+          setQueueMicros(other.getQueueMicros());
+        }
+        if (other.getComputeMicros() != 0L) {
+          setComputeMicros(other.getComputeMicros());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int index_ ;
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public int getIndex() {
+        return index_;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public Builder setIndex(int value) {
+        
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 index = 1;</code>
+       */
+      public Builder clearIndex() {
+        
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object node_ = "";
+      /**
+       * <pre>
+       * the node that ran the task, the HOSTNAME of the container
+       * </pre>
+       *
+       * <code>string node = 2;</code>
+       */
+      public java.lang.String getNode() {
+        java.lang.Object ref = node_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          node_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the node that ran the task, the HOSTNAME of the container
+       * </pre>
+       *
+       * <code>string node = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNodeBytes() {
+        java.lang.Object ref = node_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          node_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the node that ran the task, the HOSTNAME of the container
+       * </pre>
+       *
+       * <code>string node = 2;</code>
+       */
+      public Builder setNode(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        node_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the node that ran the task, the HOSTNAME of the container
+       * </pre>
+       *
+       * <code>string node = 2;</code>
+       */
+      public Builder clearNode() {
+        
+        node_ = getDefaultInstance().getNode();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the node that ran the task, the HOSTNAME of the container
+       * </pre>
+       *
+       * <code>string node = 2;</code>
+       */
+      public Builder setNodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        node_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int outcome_ = 0;
+      /**
+       * <code>.simple.demo.Outcome outcome = 3;</code>
+       */
+      public int getOutcomeValue() {
+        return outcome_;
+      }
+      /**
+       * <code>.simple.demo.Outcome outcome = 3;</code>
+       */
+      public Builder setOutcomeValue(int value) {
+        outcome_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Outcome outcome = 3;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome getOutcome() {
+        @SuppressWarnings("deprecation")
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome result = mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.valueOf(outcome_);
+        return result == null ? mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.simple.demo.Outcome outcome = 3;</code>
+       */
+      public Builder setOutcome(mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        outcome_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.simple.demo.Outcome outcome = 3;</code>
+       */
+      public Builder clearOutcome() {
+        
+        outcome_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object error_ = "";
+      /**
+       * <pre>
+       * reason of the failure
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public java.lang.String getError() {
+        java.lang.Object ref = error_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          error_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * reason of the failure
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getErrorBytes() {
+        java.lang.Object ref = error_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          error_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * reason of the failure
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public Builder setError(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        error_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * reason of the failure
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public Builder clearError() {
+        
+        error_ = getDefaultInstance().getError();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * reason of the failure
+       * </pre>
+       *
+       * <code>string error = 4;</code>
+       */
+      public Builder setErrorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        error_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long queueMicros_ ;
+      /**
+       * <pre>
+       * micros from the send to the start of the task, the clocks of the nodes are assumed in sync
+       * </pre>
+       *
+       * <code>int64 queue_micros = 5;</code>
+       */
+      public long getQueueMicros() {
+        return queueMicros_;
+      }
+      /**
+       * <pre>
+       * micros from the send to the start of the task, the clocks of the nodes are assumed in sync
+       * </pre>
+       *
+       * <code>int64 queue_micros = 5;</code>
+       */
+      public Builder setQueueMicros(long value) {
+        
+        queueMicros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * micros from the send to the start of the task, the clocks of the nodes are assumed in sync
+       * </pre>
+       *
+       * <code>int64 queue_micros = 5;</code>
+       */
+      public Builder clearQueueMicros() {
+        
+        queueMicros_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long computeMicros_ ;
+      /**
+       * <pre>
+       * micros of the computation, a cached result takes next to nothing
+       * </pre>
+       *
+       * <code>int64 compute_micros = 6;</code>
+       */
+      public long getComputeMicros() {
+        return computeMicros_;
+      }
+      /**
+       * <pre>
+       * micros of the computation, a cached result takes next to nothing
+       * </pre>
+       *
+       * <code>int64 compute_micros = 6;</code>
+       */
+      public Builder setComputeMicros(long value) {
+        
+        computeMicros_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * micros of the computation, a cached result takes next to nothing
+       * </pre>
+       *
+       * <code>int64 compute_micros = 6;</code>
+       */
+      public Builder clearComputeMicros() {
+        
+        computeMicros_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.TaskResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.TaskResult)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskResult>
+        PARSER = new com.google.protobuf.AbstractParser<TaskResult>() {
+      @java.lang.Override
+      public TaskResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskBatchResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.TaskBatchResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    int getFrom();
+
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> 
+        getResultsList();
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getResults(int index);
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder getResultsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * attempt of the batch this result answers
+     * </pre>
+     *
+     * <code>int32 attempt = 3;</code>
+     */
+    int getAttempt();
+
+    /**
+     * <pre>
+     * correlation id of the batch this result answers
+     * </pre>
+     *
+     * <code>int64 correlation_id = 4;</code>
+     */
+    long getCorrelationId();
+  }
+  /**
+   * <pre>
+   * results of the tasks of the batch, in the order of the indices
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.TaskBatchResult}
+   */
+  public  static final class TaskBatchResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.TaskBatchResult)
+      TaskBatchResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskBatchResult.newBuilder() to construct.
+    private TaskBatchResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskBatchResult() {
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskBatchResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              from_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              attempt_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              correlationId_ = input.readInt64();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                results_ = new java.util.ArrayList<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              results_.add(
+                  input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatchResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatchResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int FROM_FIELD_NUMBER = 1;
+    private int from_;
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    public int getFrom() {
+      return from_;
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 5;
+    private java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> results_;
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    public java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .simple.demo.TaskResult results = 5;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    public static final int ATTEMPT_FIELD_NUMBER = 3;
+    private int attempt_;
+    /**
+     * <pre>
+     * attempt of the batch this result answers
+     * </pre>
+     *
+     * <code>int32 attempt = 3;</code>
+     */
+    public int getAttempt() {
+      return attempt_;
+    }
+
+    public static final int CORRELATION_ID_FIELD_NUMBER = 4;
+    private long correlationId_;
+    /**
+     * <pre>
+     * correlation id of the batch this result answers
+     * </pre>
+     *
+     * <code>int64 correlation_id = 4;</code>
+     */
+    public long getCorrelationId() {
+      return correlationId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (from_ != 0) {
+        output.writeInt32(1, from_);
+      }
+      if (attempt_ != 0) {
+        output.writeInt32(3, attempt_);
+      }
+      if (correlationId_ != 0L) {
+        output.writeInt64(4, correlationId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(5, results_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (from_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, from_);
+      }
+      if (attempt_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, attempt_);
+      }
+      if (correlationId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, correlationId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, results_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult) obj;
+
+      if (getFrom()
+          != other.getFrom()) return false;
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (getAttempt()
+          != other.getAttempt()) return false;
+      if (getCorrelationId()
+          != other.getCorrelationId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FROM_FIELD_NUMBER;
+      hash = (53 * hash) + getFrom();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (37 * hash) + ATTEMPT_FIELD_NUMBER;
+      hash = (53 * hash) + getAttempt();
+      hash = (37 * hash) + CORRELATION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCorrelationId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * results of the tasks of the batch, in the order of the indices
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.TaskBatchResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.TaskBatchResult)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatchResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatchResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        from_ = 0;
+
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          resultsBuilder_.clear();
+        }
+        attempt_ = 0;
+
+        correlationId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskBatchResult_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.from_ = from_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        result.attempt_ = attempt_;
+        result.correlationId_ = correlationId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult.getDefaultInstance()) return this;
+        if (other.getFrom() != 0) {
+          setFrom(other.getFrom());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        if (other.getAttempt() != 0) {
+          setAttempt(other.getAttempt());
+        }
+        if (other.getCorrelationId() != 0L) {
+          setCorrelationId(other.getCorrelationId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int from_ ;
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public int getFrom() {
+        return from_;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder setFrom(int value) {
+        
+        from_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder clearFrom() {
+        
+        from_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          results_ = new java.util.ArrayList<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult>(results_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder setResults(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder setResults(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder addResults(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder addResults(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder addResults(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder addResults(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .simple.demo.TaskResult results = 5;</code>
+       */
+      public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+
+      private int attempt_ ;
+      /**
+       * <pre>
+       * attempt of the batch this result answers
+       * </pre>
+       *
+       * <code>int32 attempt = 3;</code>
+       */
+      public int getAttempt() {
+        return attempt_;
+      }
+      /**
+       * <pre>
+       * attempt of the batch this result answers
+       * </pre>
+       *
+       * <code>int32 attempt = 3;</code>
+       */
+      public Builder setAttempt(int value) {
+        
+        attempt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * attempt of the batch this result answers
+       * </pre>
+       *
+       * <code>int32 attempt = 3;</code>
+       */
+      public Builder clearAttempt() {
+        
+        attempt_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long correlationId_ ;
+      /**
+       * <pre>
+       * correlation id of the batch this result answers
+       * </pre>
+       *
+       * <code>int64 correlation_id = 4;</code>
+       */
+      public long getCorrelationId() {
+        return correlationId_;
+      }
+      /**
+       * <pre>
+       * correlation id of the batch this result answers
+       * </pre>
+       *
+       * <code>int64 correlation_id = 4;</code>
+       */
+      public Builder setCorrelationId(long value) {
+        
+        correlationId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * correlation id of the batch this result answers
+       * </pre>
+       *
+       * <code>int64 correlation_id = 4;</code>
+       */
+      public Builder clearCorrelationId() {
+        
+        correlationId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.TaskBatchResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.TaskBatchResult)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskBatchResult>
+        PARSER = new com.google.protobuf.AbstractParser<TaskBatchResult>() {
+      @java.lang.Override
+      public TaskBatchResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskBatchResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskBatchResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskBatchResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TaskRejectedOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.TaskRejected)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    int getFrom();
+
+    /**
+     * <pre>
+     * attempt of the rejected batch
+     * </pre>
+     *
+     * <code>int32 attempt = 2;</code>
+     */
+    int getAttempt();
+
+    /**
+     * <pre>
+     * correlation id of the rejected batch
+     * </pre>
+     *
+     * <code>int64 correlation_id = 3;</code>
+     */
+    long getCorrelationId();
+  }
+  /**
+   * <pre>
+   * the batch is rejected by the full mailbox of the worker, nothing of it is processed
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.TaskRejected}
+   */
+  public  static final class TaskRejected extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.TaskRejected)
+      TaskRejectedOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TaskRejected.newBuilder() to construct.
+    private TaskRejected(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TaskRejected() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskRejected(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              from_ = input.readInt32();
+              break;
+            }
+            case 16: {
+
+              attempt_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              correlationId_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskRejected_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskRejected_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.Builder.class);
+    }
+
+    public static final int FROM_FIELD_NUMBER = 1;
+    private int from_;
+    /**
+     * <code>int32 from = 1;</code>
+     */
+    public int getFrom() {
+      return from_;
+    }
+
+    public static final int ATTEMPT_FIELD_NUMBER = 2;
+    private int attempt_;
+    /**
+     * <pre>
+     * attempt of the rejected batch
+     * </pre>
+     *
+     * <code>int32 attempt = 2;</code>
+     */
+    public int getAttempt() {
+      return attempt_;
+    }
+
+    public static final int CORRELATION_ID_FIELD_NUMBER = 3;
+    private long correlationId_;
+    /**
+     * <pre>
+     * correlation id of the rejected batch
+     * </pre>
+     *
+     * <code>int64 correlation_id = 3;</code>
+     */
+    public long getCorrelationId() {
+      return correlationId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (from_ != 0) {
+        output.writeInt32(1, from_);
+      }
+      if (attempt_ != 0) {
+        output.writeInt32(2, attempt_);
+      }
+      if (correlationId_ != 0L) {
+        output.writeInt64(3, correlationId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (from_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, from_);
+      }
+      if (attempt_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, attempt_);
+      }
+      if (correlationId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, correlationId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected) obj;
+
+      if (getFrom()
+          != other.getFrom()) return false;
+      if (getAttempt()
+          != other.getAttempt()) return false;
+      if (getCorrelationId()
+          != other.getCorrelationId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + FROM_FIELD_NUMBER;
+      hash = (53 * hash) + getFrom();
+      hash = (37 * hash) + ATTEMPT_FIELD_NUMBER;
+      hash = (53 * hash) + getAttempt();
+      hash = (37 * hash) + CORRELATION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCorrelationId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * the batch is rejected by the full mailbox of the worker, nothing of it is processed
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.TaskRejected}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.TaskRejected)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejectedOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskRejected_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskRejected_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        from_ = 0;
+
+        attempt_ = 0;
+
+        correlationId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_TaskRejected_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected(this);
+        result.from_ = from_;
+        result.attempt_ = attempt_;
+        result.correlationId_ = correlationId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected.getDefaultInstance()) return this;
+        if (other.getFrom() != 0) {
+          setFrom(other.getFrom());
+        }
+        if (other.getAttempt() != 0) {
+          setAttempt(other.getAttempt());
+        }
+        if (other.getCorrelationId() != 0L) {
+          setCorrelationId(other.getCorrelationId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int from_ ;
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public int getFrom() {
+        return from_;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder setFrom(int value) {
+        
+        from_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 from = 1;</code>
+       */
+      public Builder clearFrom() {
+        
+        from_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int attempt_ ;
+      /**
+       * <pre>
+       * attempt of the rejected batch
+       * </pre>
+       *
+       * <code>int32 attempt = 2;</code>
+       */
+      public int getAttempt() {
+        return attempt_;
+      }
+      /**
+       * <pre>
+       * attempt of the rejected batch
+       * </pre>
+       *
+       * <code>int32 attempt = 2;</code>
+       */
+      public Builder setAttempt(int value) {
+        
+        attempt_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * attempt of the rejected batch
+       * </pre>
+       *
+       * <code>int32 attempt = 2;</code>
+       */
+      public Builder clearAttempt() {
+        
+        attempt_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long correlationId_ ;
+      /**
+       * <pre>
+       * correlation id of the rejected batch
+       * </pre>
+       *
+       * <code>int64 correlation_id = 3;</code>
+       */
+      public long getCorrelationId() {
+        return correlationId_;
+      }
+      /**
+       * <pre>
+       * correlation id of the rejected batch
+       * </pre>
+       *
+       * <code>int64 correlation_id = 3;</code>
+       */
+      public Builder setCorrelationId(long value) {
+        
+        correlationId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * correlation id of the rejected batch
+       * </pre>
+       *
+       * <code>int64 correlation_id = 3;</code>
+       */
+      public Builder clearCorrelationId() {
+        
+        correlationId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.TaskRejected)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.TaskRejected)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TaskRejected>
+        PARSER = new com.google.protobuf.AbstractParser<TaskRejected>() {
+      @java.lang.Override
+      public TaskRejected parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskRejected(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TaskRejected> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskRejected> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NodeLoadOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.NodeLoad)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    java.lang.String getAddress();
+    /**
+     * <pre>
+     * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+
+    /**
+     * <pre>
+     * amount of cores of the node
+     * </pre>
+     *
+     * <code>int32 cpus = 2;</code>
+     */
+    int getCpus();
+
+    /**
+     * <pre>
+     * CPU utilization of the node process by its cores, 0 - 1
+     * </pre>
+     *
+     * <code>double cpu = 3;</code>
+     */
+    double getCpu();
+
+    /**
+     * <pre>
+     * used heap by the maximum heap, 0 - 1
+     * </pre>
+     *
+     * <code>double heap = 4;</code>
+     */
+    double getHeap();
+
+    /**
+     * <pre>
+     * messages waiting in the worker mailboxes
+     * </pre>
+     *
+     * <code>int64 backlog = 5;</code>
+     */
+    long getBacklog();
+
+    /**
+     * <pre>
+     * epoch millis of the sample
+     * </pre>
+     *
+     * <code>int64 timestamp = 6;</code>
+     */
+    long getTimestamp();
+  }
+  /**
+   * <pre>
+   * load of a compute node, published to the other nodes for the adaptive routing
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.NodeLoad}
+   */
+  public  static final class NodeLoad extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.NodeLoad)
+      NodeLoadOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeLoad.newBuilder() to construct.
+    private NodeLoad(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeLoad() {
+      address_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NodeLoad(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              address_ = s;
+              break;
+            }
+            case 16: {
+
+              cpus_ = input.readInt32();
+              break;
+            }
+            case 25: {
+
+              cpu_ = input.readDouble();
+              break;
+            }
+            case 33: {
+
+              heap_ = input.readDouble();
+              break;
+            }
+            case 40: {
+
+              backlog_ = input.readInt64();
+              break;
+            }
+            case 48: {
+
+              timestamp_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_NodeLoad_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_NodeLoad_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.Builder.class);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private volatile java.lang.Object address_;
+    /**
+     * <pre>
+     * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+     * </pre>
+     *
+     * <code>string address = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CPUS_FIELD_NUMBER = 2;
+    private int cpus_;
+    /**
+     * <pre>
+     * amount of cores of the node
+     * </pre>
+     *
+     * <code>int32 cpus = 2;</code>
+     */
+    public int getCpus() {
+      return cpus_;
+    }
+
+    public static final int CPU_FIELD_NUMBER = 3;
+    private double cpu_;
+    /**
+     * <pre>
+     * CPU utilization of the node process by its cores, 0 - 1
+     * </pre>
+     *
+     * <code>double cpu = 3;</code>
+     */
+    public double getCpu() {
+      return cpu_;
+    }
+
+    public static final int HEAP_FIELD_NUMBER = 4;
+    private double heap_;
+    /**
+     * <pre>
+     * used heap by the maximum heap, 0 - 1
+     * </pre>
+     *
+     * <code>double heap = 4;</code>
+     */
+    public double getHeap() {
+      return heap_;
+    }
+
+    public static final int BACKLOG_FIELD_NUMBER = 5;
+    private long backlog_;
+    /**
+     * <pre>
+     * messages waiting in the worker mailboxes
+     * </pre>
+     *
+     * <code>int64 backlog = 5;</code>
+     */
+    public long getBacklog() {
+      return backlog_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 6;
+    private long timestamp_;
+    /**
+     * <pre>
+     * epoch millis of the sample
+     * </pre>
+     *
+     * <code>int64 timestamp = 6;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getAddressBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, address_);
+      }
+      if (cpus_ != 0) {
+        output.writeInt32(2, cpus_);
+      }
+      if (cpu_ != 0D) {
+        output.writeDouble(3, cpu_);
+      }
+      if (heap_ != 0D) {
+        output.writeDouble(4, heap_);
+      }
+      if (backlog_ != 0L) {
+        output.writeInt64(5, backlog_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(6, timestamp_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getAddressBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, address_);
+      }
+      if (cpus_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, cpus_);
+      }
+      if (cpu_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, cpu_);
+      }
+      if (heap_ != 0D) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, heap_);
+      }
+      if (backlog_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, backlog_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, timestamp_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad) obj;
+
+      if (!getAddress()
+          .equals(other.getAddress())) return false;
+      if (getCpus()
+          != other.getCpus()) return false;
+      if (java.lang.Double.doubleToLongBits(getCpu())
+          != java.lang.Double.doubleToLongBits(
+              other.getCpu())) return false;
+      if (java.lang.Double.doubleToLongBits(getHeap())
+          != java.lang.Double.doubleToLongBits(
+              other.getHeap())) return false;
+      if (getBacklog()
+          != other.getBacklog()) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+      hash = (53 * hash) + getAddress().hashCode();
+      hash = (37 * hash) + CPUS_FIELD_NUMBER;
+      hash = (53 * hash) + getCpus();
+      hash = (37 * hash) + CPU_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getCpu()));
+      hash = (37 * hash) + HEAP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHeap()));
+      hash = (37 * hash) + BACKLOG_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBacklog());
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * load of a compute node, published to the other nodes for the adaptive routing
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.NodeLoad}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.NodeLoad)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoadOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_NodeLoad_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_NodeLoad_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        address_ = "";
+
+        cpus_ = 0;
+
+        cpu_ = 0D;
+
+        heap_ = 0D;
+
+        backlog_ = 0L;
+
+        timestamp_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_NodeLoad_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad(this);
+        result.address_ = address_;
+        result.cpus_ = cpus_;
+        result.cpu_ = cpu_;
+        result.heap_ = heap_;
+        result.backlog_ = backlog_;
+        result.timestamp_ = timestamp_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad.getDefaultInstance()) return this;
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
+          onChanged();
+        }
+        if (other.getCpus() != 0) {
+          setCpus(other.getCpus());
+        }
+        if (other.getCpu() != 0D) {
+          setCpu(other.getCpu());
+        }
+        if (other.getHeap() != 0D) {
+          setHeap(other.getHeap());
+        }
+        if (other.getBacklog() != 0L) {
+          setBacklog(other.getBacklog());
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object address_ = "";
+      /**
+       * <pre>
+       * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+       * </pre>
+       *
+       * <code>string address = 1;</code>
+       */
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+       * </pre>
+       *
+       * <code>string address = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+       * </pre>
+       *
+       * <code>string address = 1;</code>
+       */
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        address_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+       * </pre>
+       *
+       * <code>string address = 1;</code>
+       */
+      public Builder clearAddress() {
+        
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * address of the node, e.g. akka.tcp://AkkaClusterSystem&#64;host:2551
+       * </pre>
+       *
+       * <code>string address = 1;</code>
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        address_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int cpus_ ;
+      /**
+       * <pre>
+       * amount of cores of the node
+       * </pre>
+       *
+       * <code>int32 cpus = 2;</code>
+       */
+      public int getCpus() {
+        return cpus_;
+      }
+      /**
+       * <pre>
+       * amount of cores of the node
+       * </pre>
+       *
+       * <code>int32 cpus = 2;</code>
+       */
+      public Builder setCpus(int value) {
+        
+        cpus_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * amount of cores of the node
+       * </pre>
+       *
+       * <code>int32 cpus = 2;</code>
+       */
+      public Builder clearCpus() {
+        
+        cpus_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private double cpu_ ;
+      /**
+       * <pre>
+       * CPU utilization of the node process by its cores, 0 - 1
+       * </pre>
+       *
+       * <code>double cpu = 3;</code>
+       */
+      public double getCpu() {
+        return cpu_;
+      }
+      /**
+       * <pre>
+       * CPU utilization of the node process by its cores, 0 - 1
+       * </pre>
+       *
+       * <code>double cpu = 3;</code>
+       */
+      public Builder setCpu(double value) {
+        
+        cpu_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * CPU utilization of the node process by its cores, 0 - 1
+       * </pre>
+       *
+       * <code>double cpu = 3;</code>
+       */
+      public Builder clearCpu() {
+        
+        cpu_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double heap_ ;
+      /**
+       * <pre>
+       * used heap by the maximum heap, 0 - 1
+       * </pre>
+       *
+       * <code>double heap = 4;</code>
+       */
+      public double getHeap() {
+        return heap_;
+      }
+      /**
+       * <pre>
+       * used heap by the maximum heap, 0 - 1
+       * </pre>
+       *
+       * <code>double heap = 4;</code>
+       */
+      public Builder setHeap(double value) {
+        
+        heap_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * used heap by the maximum heap, 0 - 1
+       * </pre>
+       *
+       * <code>double heap = 4;</code>
+       */
+      public Builder clearHeap() {
+        
+        heap_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long backlog_ ;
+      /**
+       * <pre>
+       * messages waiting in the worker mailboxes
+       * </pre>
+       *
+       * <code>int64 backlog = 5;</code>
+       */
+      public long getBacklog() {
+        return backlog_;
+      }
+      /**
+       * <pre>
+       * messages waiting in the worker mailboxes
+       * </pre>
+       *
+       * <code>int64 backlog = 5;</code>
+       */
+      public Builder setBacklog(long value) {
+        
+        backlog_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * messages waiting in the worker mailboxes
+       * </pre>
+       *
+       * <code>int64 backlog = 5;</code>
+       */
+      public Builder clearBacklog() {
+        
+        backlog_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <pre>
+       * epoch millis of the sample
+       * </pre>
+       *
+       * <code>int64 timestamp = 6;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <pre>
+       * epoch millis of the sample
+       * </pre>
+       *
+       * <code>int64 timestamp = 6;</code>
+       */
+      public Builder setTimestamp(long value) {
+        
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * epoch millis of the sample
+       * </pre>
+       *
+       * <code>int64 timestamp = 6;</code>
+       */
+      public Builder clearTimestamp() {
+        
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.NodeLoad)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.NodeLoad)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeLoad>
+        PARSER = new com.google.protobuf.AbstractParser<NodeLoad>() {
+      @java.lang.Override
+      public NodeLoad parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new NodeLoad(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeLoad> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeLoad> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PullWorkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.PullWork)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 tasks = 1;</code>
+     */
+    int getTasks();
+  }
+  /**
+   * <pre>
+   * pull mode: a puller asks a coordinator for at most the given amount of tasks
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.PullWork}
+   */
+  public  static final class PullWork extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.PullWork)
+      PullWorkOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PullWork.newBuilder() to construct.
+    private PullWork(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PullWork() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PullWork(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              tasks_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PullWork_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PullWork_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.Builder.class);
+    }
+
+    public static final int TASKS_FIELD_NUMBER = 1;
+    private int tasks_;
+    /**
+     * <code>int32 tasks = 1;</code>
+     */
+    public int getTasks() {
+      return tasks_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (tasks_ != 0) {
+        output.writeInt32(1, tasks_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (tasks_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, tasks_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork) obj;
+
+      if (getTasks()
+          != other.getTasks()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TASKS_FIELD_NUMBER;
+      hash = (53 * hash) + getTasks();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * pull mode: a puller asks a coordinator for at most the given amount of tasks
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.PullWork}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.PullWork)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWorkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PullWork_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PullWork_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        tasks_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_PullWork_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork(this);
+        result.tasks_ = tasks_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork.getDefaultInstance()) return this;
+        if (other.getTasks() != 0) {
+          setTasks(other.getTasks());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int tasks_ ;
+      /**
+       * <code>int32 tasks = 1;</code>
+       */
+      public int getTasks() {
+        return tasks_;
+      }
+      /**
+       * <code>int32 tasks = 1;</code>
+       */
+      public Builder setTasks(int value) {
+        
+        tasks_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 tasks = 1;</code>
+       */
+      public Builder clearTasks() {
+        
+        tasks_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.PullWork)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.PullWork)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PullWork>
+        PARSER = new com.google.protobuf.AbstractParser<PullWork>() {
+      @java.lang.Override
+      public PullWork parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PullWork(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PullWork> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PullWork> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WorkBatchesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.WorkBatches)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> 
+        getBatchesList();
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getBatches(int index);
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    int getBatchesCount();
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder> 
+        getBatchesOrBuilderList();
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder getBatchesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * pull mode: the batches given by a coordinator to a puller, empty - the coordinator has no work
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.WorkBatches}
+   */
+  public  static final class WorkBatches extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.WorkBatches)
+      WorkBatchesOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WorkBatches.newBuilder() to construct.
+    private WorkBatches(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WorkBatches() {
+      batches_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WorkBatches(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                batches_ = new java.util.ArrayList<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              batches_.add(
+                  input.readMessage(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          batches_ = java.util.Collections.unmodifiableList(batches_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkBatches_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkBatches_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.Builder.class);
+    }
+
+    public static final int BATCHES_FIELD_NUMBER = 1;
+    private java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> batches_;
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> getBatchesList() {
+      return batches_;
+    }
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    public java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder> 
+        getBatchesOrBuilderList() {
+      return batches_;
+    }
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    public int getBatchesCount() {
+      return batches_.size();
+    }
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getBatches(int index) {
+      return batches_.get(index);
+    }
+    /**
+     * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+     */
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder getBatchesOrBuilder(
+        int index) {
+      return batches_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < batches_.size(); i++) {
+        output.writeMessage(1, batches_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < batches_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, batches_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches) obj;
+
+      if (!getBatchesList()
+          .equals(other.getBatchesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getBatchesCount() > 0) {
+        hash = (37 * hash) + BATCHES_FIELD_NUMBER;
+        hash = (53 * hash) + getBatchesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * pull mode: the batches given by a coordinator to a puller, empty - the coordinator has no work
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.WorkBatches}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.WorkBatches)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatchesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkBatches_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkBatches_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBatchesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          batchesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkBatches_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches(this);
+        int from_bitField0_ = bitField0_;
+        if (batchesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            batches_ = java.util.Collections.unmodifiableList(batches_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.batches_ = batches_;
+        } else {
+          result.batches_ = batchesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches.getDefaultInstance()) return this;
+        if (batchesBuilder_ == null) {
+          if (!other.batches_.isEmpty()) {
+            if (batches_.isEmpty()) {
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureBatchesIsMutable();
+              batches_.addAll(other.batches_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.batches_.isEmpty()) {
+            if (batchesBuilder_.isEmpty()) {
+              batchesBuilder_.dispose();
+              batchesBuilder_ = null;
+              batches_ = other.batches_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              batchesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getBatchesFieldBuilder() : null;
+            } else {
+              batchesBuilder_.addAllMessages(other.batches_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> batches_ =
+        java.util.Collections.emptyList();
+      private void ensureBatchesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          batches_ = new java.util.ArrayList<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch>(batches_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder> batchesBuilder_;
+
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> getBatchesList() {
+        if (batchesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(batches_);
+        } else {
+          return batchesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public int getBatchesCount() {
+        if (batchesBuilder_ == null) {
+          return batches_.size();
+        } else {
+          return batchesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch getBatches(int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);
+        } else {
+          return batchesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.set(index, value);
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder setBatches(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder addBatches(mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.add(value);
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch value) {
+        if (batchesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBatchesIsMutable();
+          batches_.add(index, value);
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder addBatches(
+          int index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder builderForValue) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          batchesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder addAllBatches(
+          java.lang.Iterable<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch> values) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, batches_);
+          onChanged();
+        } else {
+          batchesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder clearBatches() {
+        if (batchesBuilder_ == null) {
+          batches_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          batchesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public Builder removeBatches(int index) {
+        if (batchesBuilder_ == null) {
+          ensureBatchesIsMutable();
+          batches_.remove(index);
+          onChanged();
+        } else {
+          batchesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder getBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder getBatchesOrBuilder(
+          int index) {
+        if (batchesBuilder_ == null) {
+          return batches_.get(index);  } else {
+          return batchesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public java.util.List<? extends mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder> 
+           getBatchesOrBuilderList() {
+        if (batchesBuilder_ != null) {
+          return batchesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(batches_);
+        }
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder addBatchesBuilder() {
+        return getBatchesFieldBuilder().addBuilder(
+            mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder addBatchesBuilder(
+          int index) {
+        return getBatchesFieldBuilder().addBuilder(
+            index, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .simple.demo.TaskBatch batches = 1;</code>
+       */
+      public java.util.List<mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder> 
+           getBatchesBuilderList() {
+        return getBatchesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder> 
+          getBatchesFieldBuilder() {
+        if (batchesBuilder_ == null) {
+          batchesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch.Builder, mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchOrBuilder>(
+                  batches_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          batches_ = null;
+        }
+        return batchesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.WorkBatches)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.WorkBatches)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WorkBatches>
+        PARSER = new com.google.protobuf.AbstractParser<WorkBatches>() {
+      @java.lang.Override
+      public WorkBatches parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WorkBatches(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WorkBatches> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WorkBatches> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface WorkReadyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:simple.demo.WorkReady)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * <pre>
+   * pull mode: a coordinator has work queued, published to the pullers
+   * </pre>
+   *
+   * Protobuf type {@code simple.demo.WorkReady}
+   */
+  public  static final class WorkReady extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:simple.demo.WorkReady)
+      WorkReadyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use WorkReady.newBuilder() to construct.
+    private WorkReady(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private WorkReady() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private WorkReady(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkReady_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkReady_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady)) {
+        return super.equals(obj);
+      }
+      mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady other = (mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * pull mode: a coordinator has work queued, published to the pullers
+     * </pre>
+     *
+     * Protobuf type {@code simple.demo.WorkReady}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:simple.demo.WorkReady)
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReadyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkReady_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkReady_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.class, mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.Builder.class);
+      }
+
+      // Construct using mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.internal_static_simple_demo_WorkReady_descriptor;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady getDefaultInstanceForType() {
+        return mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady build() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady buildPartial() {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady result = new mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady) {
+          return mergeFrom((mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady other) {
+        if (other == mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:simple.demo.WorkReady)
+    }
+
+    // @@protoc_insertion_point(class_scope:simple.demo.WorkReady)
+    private static final mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady();
+    }
+
+    public static mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<WorkReady>
+        PARSER = new com.google.protobuf.AbstractParser<WorkReady>() {
+      @java.lang.Override
+      public WorkReady parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new WorkReady(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<WorkReady> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WorkReady> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_Factorial_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_Factorial_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_Fibonacci_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_Fibonacci_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_PrimeCount_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_PrimeCount_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_Computation_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_Computation_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_Task_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_Task_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_TaskBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_TaskBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_TaskResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_TaskResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_TaskBatchResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_TaskBatchResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_TaskRejected_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_TaskRejected_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_NodeLoad_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_NodeLoad_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_PullWork_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_PullWork_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_WorkBatches_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_WorkBatches_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_simple_demo_WorkReady_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_simple_demo_WorkReady_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\rmessage.proto\022\013simple.demo\"\026\n\tFactoria" +
+      "l\022\t\n\001n\030\001 \001(\005\"\026\n\tFibonacci\022\t\n\001n\030\001 \001(\005\"\033\n\n" +
+      "PrimeCount\022\r\n\005limit\030\001 \001(\005\"\241\001\n\013Computatio" +
+      "n\022+\n\tfactorial\030\001 \001(\0132\026.simple.demo.Facto" +
+      "rialH\000\022+\n\tfibonacci\030\002 \001(\0132\026.simple.demo." +
+      "FibonacciH\000\022.\n\013prime_count\030\003 \001(\0132\027.simpl" +
+      "e.demo.PrimeCountH\000B\010\n\006kernel\"}\n\004Task\022\r\n" +
+      "\005index\030\001 \001(\005\022\020\n\010deadline\030\002 \001(\003\022-\n\013comput" +
+      "ation\030\003 \001(\0132\030.simple.demo.Computation\022\017\n" +
+      "\007sent_at\030\004 \001(\003\022\024\n\014stream_value\030\005 \001(\010\"\301\001\n" +
+      "\tTaskBatch\022\014\n\004from\030\001 \001(\005\022\n\n\002to\030\002 \001(\005\022\020\n\010" +
+      "deadline\030\003 \001(\003\022\017\n\007attempt\030\004 \001(\005\022-\n\013compu" +
+      "tation\030\005 \001(\0132\030.simple.demo.Computation\022\013" +
+      "\n\003key\030\006 \001(\t\022\026\n\016correlation_id\030\007 \001(\003\022\017\n\007s" +
+      "ent_at\030\010 \001(\003\022\022\n\nrequest_id\030\t \001(\003\"\215\001\n\nTas" +
+      "kResult\022\r\n\005index\030\001 \001(\005\022\014\n\004node\030\002 \001(\t\022%\n\007" +
+      "outcome\030\003 \001(\0162\024.simple.demo.Outcome\022\r\n\005e" +
+      "rror\030\004 \001(\t\022\024\n\014queue_micros\030\005 \001(\003\022\026\n\016comp" +
+      "ute_micros\030\006 \001(\003\"x\n\017TaskBatchResult\022\014\n\004f" +
+      "rom\030\001 \001(\005\022(\n\007results\030\005 \003(\0132\027.simple.demo" +
+      ".TaskResult\022\017\n\007attempt\030\003 \001(\005\022\026\n\016correlat" +
+      "ion_id\030\004 \001(\003J\004\010\002\020\003\"E\n\014TaskRejected\022\014\n\004fr" +
+      "om\030\001 \001(\005\022\017\n\007attempt\030\002 \001(\005\022\026\n\016correlation" +
+      "_id\030\003 \001(\003\"h\n\010NodeLoad\022\017\n\007address\030\001 \001(\t\022\014" +
+      "\n\004cpus\030\002 \001(\005\022\013\n\003cpu\030\003 \001(\001\022\014\n\004heap\030\004 \001(\001\022" +
+      "\017\n\007backlog\030\005 \001(\003\022\021\n\ttimestamp\030\006 \001(\003\"\031\n\010P" +
+      "ullWork\022\r\n\005tasks\030\001 \001(\005\"6\n\013WorkBatches\022\'\n" +
+      "\007batches\030\001 \003(\0132\026.simple.demo.TaskBatch\"\013" +
+      "\n\tWorkReady*,\n\007Outcome\022\010\n\004DONE\020\000\022\013\n\007EXPI" +
+      "RED\020\001\022\n\n\006FAILED\020\002B3\n#mykhalishyn.akka.cl" +
+      "uster.demo.actorB\014MessageProtob\006proto3"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_simple_demo_Factorial_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_simple_demo_Factorial_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_Factorial_descriptor,
+        new java.lang.String[] { "N", });
+    internal_static_simple_demo_Fibonacci_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_simple_demo_Fibonacci_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_Fibonacci_descriptor,
+        new java.lang.String[] { "N", });
+    internal_static_simple_demo_PrimeCount_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_simple_demo_PrimeCount_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_PrimeCount_descriptor,
+        new java.lang.String[] { "Limit", });
+    internal_static_simple_demo_Computation_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_simple_demo_Computation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_Computation_descriptor,
+        new java.lang.String[] { "Factorial", "Fibonacci", "PrimeCount", "Kernel", });
+    internal_static_simple_demo_Task_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_simple_demo_Task_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_Task_descriptor,
+        new java.lang.String[] { "Index", "Deadline", "Computation", "SentAt", "StreamValue", });
+    internal_static_simple_demo_TaskBatch_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_simple_demo_TaskBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_TaskBatch_descriptor,
+        new java.lang.String[] { "From", "To", "Deadline", "Attempt", "Computation", "Key", "CorrelationId", "SentAt", "RequestId", });
+    internal_static_simple_demo_TaskResult_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_simple_demo_TaskResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_TaskResult_descriptor,
+        new java.lang.String[] { "Index", "Node", "Outcome", "Error", "QueueMicros", "ComputeMicros", });
+    internal_static_simple_demo_TaskBatchResult_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_simple_demo_TaskBatchResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_TaskBatchResult_descriptor,
+        new java.lang.String[] { "From", "Results", "Attempt", "CorrelationId", });
+    internal_static_simple_demo_TaskRejected_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_simple_demo_TaskRejected_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_TaskRejected_descriptor,
+        new java.lang.String[] { "From", "Attempt", "CorrelationId", });
+    internal_static_simple_demo_NodeLoad_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_simple_demo_NodeLoad_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_NodeLoad_descriptor,
+        new java.lang.String[] { "Address", "Cpus", "Cpu", "Heap", "Backlog", "Timestamp", });
+    internal_static_simple_demo_PullWork_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_simple_demo_PullWork_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_PullWork_descriptor,
+        new java.lang.String[] { "Tasks", });
+    internal_static_simple_demo_WorkBatches_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_simple_demo_WorkBatches_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_WorkBatches_descriptor,
+        new java.lang.String[] { "Batches", });
+    internal_static_simple_demo_WorkReady_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_simple_demo_WorkReady_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_simple_demo_WorkReady_descriptor,
+        new java.lang.String[] { });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
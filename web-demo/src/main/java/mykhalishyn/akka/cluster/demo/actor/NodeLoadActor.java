@@ -0,0 +1,119 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSub;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad;
+import mykhalishyn.akka.cluster.demo.mailbox.WorkerBacklog;
+import mykhalishyn.akka.cluster.demo.routing.ClusterLoad;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * Node Load Actor - one per node.
+ * Samples the CPU utilization of the node process, its heap and the backlog of its workers,
+ * publishes the sample to the other nodes through the distributed pub-sub and keeps
+ * the samples of all the nodes in the {@link ClusterLoad} used by the adaptive routing.
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorWithTimers
+ */
+public class NodeLoadActor extends AbstractActorWithTimers {
+
+    public static final String TOPIC = "node-load";
+
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    private final ClusterLoad load;
+
+    private final int cpus;
+
+    private final FiniteDuration interval;
+
+    private final ActorRef mediator = DistributedPubSub.get(getContext().getSystem()).mediator();
+
+    private final String address = Cluster.get(getContext().getSystem()).selfAddress().toString();
+
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+    private long lastCpuNanos = processCpuNanos();
+
+    private long lastSampleNanos = System.nanoTime();
+
+    public NodeLoadActor(final ClusterLoad load, final int cpus, final FiniteDuration interval) {
+        this.load = load;
+        this.cpus = cpus;
+        this.interval = interval;
+    }
+
+    /**
+     * Props of the node load actor
+     *
+     * @param load     the load of the cluster updated by the actor. Cannot be {@code null}
+     * @param cpus     amount of cores of the node
+     * @param interval interval of the samples. Cannot be {@code null}
+     * @return props of the actor
+     */
+    public static Props props(final ClusterLoad load, final int cpus, final FiniteDuration interval) {
+        return Props.create(NodeLoadActor.class, load, cpus, interval);
+    }
+
+    @Override
+    public void preStart() {
+        mediator.tell(new DistributedPubSubMediator.Subscribe(TOPIC, self()), self());
+        getTimers().startPeriodicTimer(Sample.INSTANCE, Sample.INSTANCE, interval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(NodeLoad.class, load::update)
+                .match(Sample.class, sample -> mediator.tell(new DistributedPubSubMediator.Publish(TOPIC, sample()), self()))
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.info("Subscribed to {}", TOPIC))
+                .matchAny(this::unhandled)
+                .build();
+    }
+
+    private NodeLoad sample() {
+        final long cpuNanos = processCpuNanos();
+        final long now = System.nanoTime();
+        final double cpu;
+        if (cpuNanos >= 0) {
+            cpu = (double) (cpuNanos - lastCpuNanos) / Math.max(1, now - lastSampleNanos) / cpus;
+        } else {
+            cpu = Math.max(0, os.getSystemLoadAverage()) / cpus;
+        }
+        lastCpuNanos = cpuNanos;
+        lastSampleNanos = now;
+        final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return NodeLoad.newBuilder()
+                .setAddress(address)
+                .setCpus(cpus)
+                .setCpu(cpu)
+                .setHeap((double) heap.getUsed() / (heap.getMax() > 0 ? heap.getMax() : heap.getCommitted()))
+                .setBacklog(WorkerBacklog.get(getContext().getSystem()).get())
+                .setTimestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * CPU time of the process, {@code -1} if the JVM does not tell it
+     */
+    private long processCpuNanos() {
+        return os instanceof com.sun.management.OperatingSystemMXBean
+                ? ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime()
+                : -1;
+    }
+
+    private enum Sample {
+        INSTANCE
+    }
+}
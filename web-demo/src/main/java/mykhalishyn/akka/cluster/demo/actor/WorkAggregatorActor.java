@@ -0,0 +1,430 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.DeadLetterSuppression;
+import akka.actor.Props;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.dto.TaskStatus;
+import mykhalishyn.akka.cluster.demo.hedge.HedgingPolicy;
+import mykhalishyn.akka.cluster.demo.limit.AdaptiveConcurrencyLimiter;
+import mykhalishyn.akka.cluster.demo.mailbox.MailboxRejectedException;
+import mykhalishyn.akka.cluster.demo.timing.TaskTimings;
+import reactor.core.publisher.FluxSink;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work Aggregator Actor - one per `/work` request.
+ * Sends the chunks of the request to the workers within a single deadline of the whole request,
+ * receives all the replies tagged with their indices and pushes the task statuses to the Reactor sink
+ * of the request. The aggregator is never restarted, a failure fails the sink and stops it.
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorWithTimers
+ */
+public class WorkAggregatorActor extends AbstractActorWithTimers {
+
+    /**
+     * Name of the child receiving the replies of the workers
+     */
+    public static final String RESULTS = "results";
+
+    private static final String FAILED_MESSAGE = "Task #%d failed";
+
+    private static final String REJECTED_MESSAGE = "Task #%d rejected";
+
+    private static final String RESULT_MESSAGE = "%s Finish task #%d.";
+
+    private static final String EXPIRED_MESSAGE = "%s Task #%d expired.";
+
+    private static final String ERROR_MESSAGE = "%s Task #%d failed: %s";
+
+    // backoff of the first retry of a rejected chunk, the full mailbox needs a moment to drain
+    private static final long RETRY_BACKOFF_MILLIS = 10;
+
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    private final ActorRef workers;
+
+    private final FluxSink<TaskStatus> sink;
+
+    // the computation and the key shared by all the chunks
+    private final TaskBatch template;
+
+    private final int tasks;
+
+    private final int chunk;
+
+    private final int maxInFlight;
+
+    private final FiniteDuration timeout;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private final HedgingPolicy hedging;
+
+    private final int maxRejections;
+
+    private final TaskTimings timings;
+
+    // epoch millis of the deadline propagated to the workers
+    private final long deadline;
+
+    // chunks in flight by the first index of the chunk
+    private final Map<Integer, Chunk> inFlight = new HashMap<>();
+
+    private int inFlightTasks;
+
+    // first index of the next chunk to dispatch
+    private int next;
+
+    private ActorRef results;
+
+    public WorkAggregatorActor(final ActorRef workers,
+                               final FluxSink<TaskStatus> sink,
+                               final TaskBatch template,
+                               final int tasks,
+                               final int chunk,
+                               final int maxInFlight,
+                               final FiniteDuration timeout,
+                               final AdaptiveConcurrencyLimiter limiter,
+                               final HedgingPolicy hedging,
+                               final int maxRejections,
+                               final TaskTimings timings) {
+        this.workers = workers;
+        this.sink = sink;
+        this.template = template;
+        this.tasks = tasks;
+        this.chunk = chunk;
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout;
+        this.limiter = limiter;
+        this.hedging = hedging;
+        this.maxRejections = maxRejections;
+        this.timings = timings;
+        this.deadline = System.currentTimeMillis() + timeout.toMillis();
+    }
+
+    /**
+     * Props of the aggregator for a single request
+     *
+     * @param workers       the worker router reference. Cannot be {@code null}
+     * @param sink          the sink of the request. Cannot be {@code null}
+     * @param template      the chunk with the computation and the key of the request. Cannot be {@code null}
+     * @param tasks         amount of tasks of the request
+     * @param chunk         amount of tasks sent to a worker in one message
+     * @param maxInFlight   maximum amount of chunks in flight
+     * @param timeout       timeout of the whole request. Cannot be {@code null}
+     * @param limiter       the limiter that observes the latency of the chunks. Cannot be {@code null}
+     * @param hedging       the hedging policy of the slow chunks. Cannot be {@code null}
+     * @param maxRejections amount of retries of a chunk rejected by the full mailboxes of the workers
+     * @param timings       the timings of the answered tasks. Cannot be {@code null}
+     * @return props of the aggregator
+     */
+    public static Props props(final ActorRef workers,
+                              final FluxSink<TaskStatus> sink,
+                              final TaskBatch template,
+                              final int tasks,
+                              final int chunk,
+                              final int maxInFlight,
+                              final FiniteDuration timeout,
+                              final AdaptiveConcurrencyLimiter limiter,
+                              final HedgingPolicy hedging,
+                              final int maxRejections,
+                              final TaskTimings timings) {
+        return Props.create(WorkAggregatorActor.class, workers, sink, template, tasks, chunk, maxInFlight, timeout,
+                limiter, hedging, maxRejections, timings);
+    }
+
+    /**
+     * The chunks are sent on behalf of the {@value #RESULTS} child, which forwards the replies to the aggregator,
+     * so the large results of the workers can be routed to their own remoting lane by the path
+     */
+    @Override
+    public void preStart() {
+        final ActorRef self = self();
+        results = getContext().actorOf(Props.create(Results.class, Results::new), RESULTS);
+        sink.onRequest(demand -> self.tell(Demand.INSTANCE, ActorRef.noSender()));
+        sink.onCancel(() -> self.tell(Cancel.INSTANCE, ActorRef.noSender()));
+        getTimers().startSingleTimer(Deadline.INSTANCE, Deadline.INSTANCE, timeout);
+        dispatch();
+    }
+
+    /**
+     * A restart would dispatch all the tasks of the request once more, so the client would get
+     * the statuses twice and the work would take the limit twice. The request fails instead
+     */
+    @Override
+    public void preRestart(final Throwable reason, final Optional<Object> message) {
+        sink.error(reason);
+        getContext().stop(self());
+    }
+
+    /**
+     * The stopped aggregator does not start the work again
+     */
+    @Override
+    public void postRestart(final Throwable reason) {
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(TaskBatchResult.class, this::processResult)
+                .match(TaskRejected.class, this::processRejected)
+                .match(Hedge.class, this::hedge)
+                .match(Retry.class, this::retry)
+                .match(Demand.class, demand -> dispatch())
+                .match(Deadline.class, deadline -> expire())
+                .match(Cancel.class, cancel -> getContext().stop(self()))
+                .matchAny(this::unhandled)
+                .build();
+    }
+
+    /**
+     * The first reply of a chunk wins, the other attempts are ignored. Its latency is reported
+     * to the {@link AdaptiveConcurrencyLimiter} and the {@link HedgingPolicy}, the queue and compute times
+     * of its tasks to the {@link TaskTimings}
+     */
+    private void processResult(final TaskBatchResult result) {
+        final Chunk chunk = inFlight.remove(result.getFrom());
+        if (chunk == null) {
+            log.debug("Ignoring reply for unknown Tasks #{}", result.getFrom());
+            return;
+        }
+        final int size = chunk.to - result.getFrom();
+        final long latency = System.nanoTime() - chunk.sentAt;
+        inFlightTasks -= size;
+        limiter.onSample(latency, size);
+        if (hedging.isEnabled()) {
+            getTimers().cancel(new Hedge(result.getFrom()));
+            hedging.onSample(latency, size);
+            if (result.getAttempt() == chunk.hedgeAttempt) {
+                hedging.onHedgeWon();
+            }
+        }
+        for (final TaskResult taskResult : result.getResultsList()) {
+            timings.record(taskResult);
+            sink.next(new TaskStatus(taskResult.getIndex(), status(taskResult)));
+        }
+        dispatch();
+    }
+
+    /**
+     * A chunk rejected by the full mailbox of a worker is sent again after a backoff, doubled with every rejection,
+     * with a new attempt number, so the router likely picks another routee than the overloaded one.
+     * After {@code maxRejections} retries the rest of the request is rejected and the sink fails
+     * with the {@link MailboxRejectedException}
+     */
+    private void processRejected(final TaskRejected rejected) {
+        final Chunk chunk = inFlight.get(rejected.getFrom());
+        // the rejected hedge leaves the first attempt in flight
+        if (chunk == null || rejected.getAttempt() != chunk.attempt) {
+            return;
+        }
+        if (chunk.rejections < maxRejections) {
+            final long backoff = RETRY_BACKOFF_MILLIS << chunk.rejections;
+            chunk.rejections++;
+            log.debug("Retrying rejected Tasks #{} - #{} in {} ms", rejected.getFrom(), chunk.to - 1, backoff);
+            final Retry retry = new Retry(rejected.getFrom());
+            getTimers().startSingleTimer(retry, retry, FiniteDuration.create(backoff, TimeUnit.MILLISECONDS));
+            return;
+        }
+        log.warning("Work of {} tasks is rejected by the workers", tasks);
+        limiter.onDrop();
+        inFlight.forEach((from, inFlightChunk) -> fail(from, inFlightChunk.to, REJECTED_MESSAGE));
+        fail(next, tasks, REJECTED_MESSAGE);
+        sink.error(new MailboxRejectedException("Tasks #" + rejected.getFrom() + " - #" + (chunk.to - 1)
+                + " rejected " + (maxRejections + 1) + " times"));
+        getContext().stop(self());
+    }
+
+    /**
+     * Keep at most {@code maxInFlight} chunks in flight, only while the subscriber of the sink has demand.
+     * Every chunk carries the deadline of the request, so the workers skip the tasks nobody waits for anymore
+     */
+    private void dispatch() {
+        // keep at most maxInFlight chunks in flight and never ask for more than the subscriber wants
+        while (next < tasks && inFlight.size() < maxInFlight && inFlightTasks < sink.requestedFromDownstream()) {
+            final int to = Math.min(tasks, next + chunk);
+            workers.tell(batch(next, to, 0), results);
+            inFlight.put(next, new Chunk(to, System.nanoTime()));
+            if (hedging.isEnabled()) {
+                hedging.onPrimary();
+                final long delay = hedging.hedgeDelay(to - next);
+                if (delay >= 0) {
+                    final Hedge hedge = new Hedge(next);
+                    getTimers().startSingleTimer(hedge, hedge, FiniteDuration.fromNanos(delay));
+                }
+            }
+            inFlightTasks += to - next;
+            next = to;
+        }
+        if (next >= tasks && inFlight.isEmpty()) {
+            sink.complete();
+            getContext().stop(self());
+        }
+    }
+
+    /**
+     * Send the chunk without a reply after the hedge delay once more, with an attempt number of its own.
+     * The hedge goes through the same router as the first attempt, so another node is likely, but not guaranteed:
+     * the round-robin mode sends it to the next routee, the adaptive mode picks a weighted random routee,
+     * the consistent hashing and the sharding modes hash the new attempt to another key, which can still land
+     * on the node of the first attempt
+     */
+    private void hedge(final Hedge hedge) {
+        final Chunk chunk = inFlight.get(hedge.from);
+        if (chunk != null && hedging.tryHedge()) {
+            log.debug("Hedging Tasks #{} - #{}", hedge.from, chunk.to - 1);
+            chunk.hedgeAttempt = chunk.nextAttempt++;
+            workers.tell(batch(hedge.from, chunk.to, chunk.hedgeAttempt), results);
+        }
+    }
+
+    private void retry(final Retry retry) {
+        final Chunk chunk = inFlight.get(retry.from);
+        if (chunk == null) {
+            return;
+        }
+        // the latency of the retry is taken from its own dispatch
+        chunk.attempt = chunk.nextAttempt++;
+        chunk.sentAt = System.nanoTime();
+        workers.tell(batch(retry.from, chunk.to, chunk.attempt), results);
+    }
+
+    private TaskBatch batch(final int from, final int to, final int attempt) {
+        return template.toBuilder()
+                .setFrom(from)
+                .setTo(to)
+                .setDeadline(deadline)
+                .setAttempt(attempt)
+                .setSentAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private static String status(final TaskResult result) {
+        switch (result.getOutcome()) {
+            case EXPIRED:
+                return String.format(EXPIRED_MESSAGE, result.getNode(), result.getIndex());
+            case FAILED:
+                return String.format(ERROR_MESSAGE, result.getNode(), result.getIndex(), result.getError());
+            default:
+                return String.format(RESULT_MESSAGE, result.getNode(), result.getIndex());
+        }
+    }
+
+    private void expire() {
+        log.warning("Work of {} tasks is not finished in {}", tasks, timeout);
+        limiter.onDrop();
+        inFlight.forEach((from, chunk) -> fail(from, chunk.to, FAILED_MESSAGE));
+        fail(next, tasks, FAILED_MESSAGE);
+        sink.complete();
+        getContext().stop(self());
+    }
+
+    private void fail(final int from, final int to, final String message) {
+        for (int index = from; index < to; index++) {
+            sink.next(new TaskStatus(index, String.format(message, index)));
+        }
+    }
+
+    private static final class Chunk {
+        // last index of the chunk, exclusive
+        private final int to;
+
+        // nanos the current attempt is dispatched at
+        private long sentAt;
+
+        // times the chunk is rejected by the workers
+        private int rejections;
+
+        // attempt of the chunk that is not a hedge
+        private int attempt;
+
+        // attempt of the hedge of the chunk, -1 - not hedged
+        private int hedgeAttempt = -1;
+
+        // every attempt of the chunk has its own number, so the routers pick another routee for it
+        private int nextAttempt = 1;
+
+        private Chunk(final int to, final long sentAt) {
+            this.to = to;
+            this.sentAt = sentAt;
+        }
+    }
+
+    /**
+     * Inbox of the replies of the workers
+     */
+    private static final class Results extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(reply -> getContext().getParent().forward(reply, getContext()))
+                    .build();
+        }
+    }
+
+    private static final class Hedge {
+        // first index of the chunk to hedge
+        private final int from;
+
+        private Hedge(final int from) {
+            this.from = from;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Hedge && ((Hedge) other).from == from;
+        }
+
+        @Override
+        public int hashCode() {
+            return from;
+        }
+    }
+
+    private static final class Retry {
+        // first index of the rejected chunk
+        private final int from;
+
+        private Retry(final int from) {
+            this.from = from;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Retry && ((Retry) other).from == from;
+        }
+
+        @Override
+        public int hashCode() {
+            return from;
+        }
+    }
+
+    private enum Demand implements DeadLetterSuppression {
+        INSTANCE
+    }
+
+    private enum Deadline implements DeadLetterSuppression {
+        INSTANCE
+    }
+
+    private enum Cancel implements DeadLetterSuppression {
+        INSTANCE
+    }
+}
@@ -0,0 +1,108 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady;
+import mykhalishyn.akka.cluster.demo.pull.WorkQueue;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Work Coordinator Actor - one per node in the pull mode.
+ * Takes the place of the work router: queues the batches sent by the aggregators in the {@link WorkQueue}
+ * and tells the pullers of the compute nodes that work is ready, the pullers take as many tasks
+ * as they have capacity for. The results and the rejections coming back from the pullers are passed
+ * to the aggregators.
+ * While the queue is not empty the work is announced every interval, so a puller that was busy
+ * at the first announcement comes back for it.
+ *
+ * @author dmihalishin@gmail.com
+ * @see WorkPullerActor
+ */
+public class WorkCoordinatorActor extends AbstractActorWithTimers {
+
+    public static final String TOPIC = "work-ready";
+
+    private final WorkQueue queue;
+
+    private final ActorRef mediator;
+
+    private final FiniteDuration interval;
+
+    public WorkCoordinatorActor(final WorkQueue queue, final ActorRef mediator, final FiniteDuration interval) {
+        this.queue = queue;
+        this.mediator = mediator;
+        this.interval = interval;
+    }
+
+    /**
+     * Props of the coordinator
+     *
+     * @param queue    the work queue of the node. Cannot be {@code null}
+     * @param mediator the distributed pub-sub mediator the work is announced through. Cannot be {@code null}
+     * @param interval interval of the announcements while work is queued. Cannot be {@code null}
+     * @return props of the coordinator
+     */
+    public static Props props(final WorkQueue queue, final ActorRef mediator, final FiniteDuration interval) {
+        return Props.create(WorkCoordinatorActor.class, queue, mediator, interval);
+    }
+
+    @Override
+    public void preStart() {
+        getTimers().startPeriodicTimer(Tick.INSTANCE, Tick.INSTANCE, interval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(TaskBatch.class, this::enqueue)
+                .match(PullWork.class, this::pull)
+                .match(TaskBatchResult.class, result -> complete(result.getCorrelationId(), result))
+                .match(TaskRejected.class, rejected -> complete(rejected.getCorrelationId(), rejected))
+                .match(Tick.class, tick -> tick())
+                .matchAny(this::unhandled)
+                .build();
+    }
+
+    private void enqueue(final TaskBatch batch) {
+        final boolean announce = queue.isEmpty();
+        queue.offer(batch, sender());
+        if (announce) {
+            announce();
+        }
+    }
+
+    private void pull(final PullWork pull) {
+        sender().tell(WorkBatches.newBuilder()
+                .addAllBatches(queue.poll(pull.getTasks(), System.currentTimeMillis()))
+                .build(), self());
+    }
+
+    private void complete(final long correlationId, final Object reply) {
+        final ActorRef replyTo = queue.complete(correlationId);
+        if (replyTo != null) {
+            replyTo.tell(reply, self());
+        }
+    }
+
+    private void tick() {
+        queue.expire(System.currentTimeMillis());
+        if (!queue.isEmpty()) {
+            announce();
+        }
+    }
+
+    private void announce() {
+        mediator.tell(new DistributedPubSubMediator.Publish(TOPIC, WorkReady.getDefaultInstance()), self());
+    }
+
+    private enum Tick {
+        INSTANCE
+    }
+}
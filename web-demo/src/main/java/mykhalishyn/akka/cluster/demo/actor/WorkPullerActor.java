@@ -0,0 +1,215 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Work Puller Actor - one per compute node in the pull mode.
+ * Pulls the work from the {@link WorkCoordinatorActor coordinators} announcing it, as long as
+ * the tasks in flight on the workers of the node stay within the capacity, and pulls again
+ * as soon as a result frees the capacity, unless the coordinator had no work for the last pull. So a faster node pulls more work and nothing queues up
+ * in the mailboxes of a slow node. Every pulled batch gets the correlation id of the puller,
+ * echoed by the worker in the result, the result goes back to the coordinator with its own id.
+ *
+ * @author dmihalishin@gmail.com
+ * @see WorkCoordinatorActor
+ */
+public class WorkPullerActor extends AbstractActorWithTimers {
+
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    private final ActorRef workers;
+
+    private final int capacity;
+
+    private final ActorRef mediator;
+
+    private final FiniteDuration interval;
+
+    // batches on the workers by the correlation id of the puller
+    private final Map<Long, Pulled> inFlight = new HashMap<>();
+
+    // pulls without a reply by the coordinator
+    private final Map<ActorRef, Request> requested = new HashMap<>();
+
+    // coordinators that had no work for the last pull, pulled again on their next announcement only
+    private final Set<ActorRef> drained = new HashSet<>();
+
+    private int inFlightTasks;
+
+    private int requestedTasks;
+
+    private long nextId;
+
+    public WorkPullerActor(final ActorRef workers, final int capacity, final ActorRef mediator, final FiniteDuration interval) {
+        this.workers = workers;
+        this.capacity = capacity;
+        this.mediator = mediator;
+        this.interval = interval;
+    }
+
+    /**
+     * Props of the puller
+     *
+     * @param workers  the workers of the node. Cannot be {@code null}
+     * @param capacity maximum amount of tasks in flight on the workers of the node
+     * @param mediator the distributed pub-sub mediator the work is announced through. Cannot be {@code null}
+     * @param interval interval of the announcements of the coordinators. Cannot be {@code null}
+     * @return props of the puller
+     */
+    public static Props props(final ActorRef workers, final int capacity, final ActorRef mediator, final FiniteDuration interval) {
+        return Props.create(WorkPullerActor.class, workers, capacity, mediator, interval);
+    }
+
+    @Override
+    public void preStart() {
+        mediator.tell(new DistributedPubSubMediator.Subscribe(WorkCoordinatorActor.TOPIC, self()), self());
+        getTimers().startPeriodicTimer(Tick.INSTANCE, Tick.INSTANCE, interval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(WorkReady.class, ready -> ready(sender()))
+                .match(WorkBatches.class, this::process)
+                .match(TaskBatchResult.class, this::complete)
+                .match(TaskRejected.class, this::reject)
+                .match(Tick.class, tick -> tick())
+                .match(DistributedPubSubMediator.SubscribeAck.class,
+                        ack -> log.info("Subscribed to {}", WorkCoordinatorActor.TOPIC))
+                .matchAny(this::unhandled)
+                .build();
+    }
+
+    private void ready(final ActorRef coordinator) {
+        drained.remove(coordinator);
+        pull(coordinator);
+    }
+
+    private void pull(final ActorRef coordinator) {
+        final int free = capacity - inFlightTasks - requestedTasks;
+        if (free <= 0 || requested.containsKey(coordinator)) {
+            return;
+        }
+        requested.put(coordinator, new Request(free, System.currentTimeMillis()));
+        requestedTasks += free;
+        coordinator.tell(PullWork.newBuilder().setTasks(free).build(), self());
+    }
+
+    private void process(final WorkBatches batches) {
+        final ActorRef coordinator = sender();
+        final Request request = requested.remove(coordinator);
+        if (request != null) {
+            requestedTasks -= request.tasks;
+        }
+        for (final TaskBatch batch : batches.getBatchesList()) {
+            final long id = ++nextId;
+            final Pulled pulled = new Pulled(coordinator, batch);
+            inFlight.put(id, pulled);
+            inFlightTasks += pulled.tasks;
+            workers.tell(batch.toBuilder().setCorrelationId(id).build(), self());
+        }
+        // the coordinator may have more work
+        if (batches.getBatchesCount() > 0) {
+            drained.remove(coordinator);
+            pull(coordinator);
+        } else {
+            drained.add(coordinator);
+        }
+    }
+
+    private void complete(final TaskBatchResult result) {
+        final Pulled pulled = inFlight.remove(result.getCorrelationId());
+        if (pulled == null) {
+            log.debug("Ignoring result of unknown Tasks #{}", result.getFrom());
+            return;
+        }
+        inFlightTasks -= pulled.tasks;
+        pulled.coordinator.tell(result.toBuilder().setCorrelationId(pulled.correlationId).build(), self());
+        if (!drained.contains(pulled.coordinator)) {
+            pull(pulled.coordinator);
+        }
+    }
+
+    private void reject(final TaskRejected rejected) {
+        final Pulled pulled = inFlight.remove(rejected.getCorrelationId());
+        if (pulled == null) {
+            return;
+        }
+        // the workers are full, the coordinator gets the batch back and no more is pulled for now
+        inFlightTasks -= pulled.tasks;
+        pulled.coordinator.tell(rejected.toBuilder().setCorrelationId(pulled.correlationId).build(), self());
+    }
+
+    private void tick() {
+        // a result lost with its worker must not hold the capacity forever
+        final long now = System.currentTimeMillis();
+        final Iterator<Pulled> pulled = inFlight.values().iterator();
+        while (pulled.hasNext()) {
+            final Pulled next = pulled.next();
+            if (next.deadline > 0 && now > next.deadline + interval.toMillis()) {
+                pulled.remove();
+                inFlightTasks -= next.tasks;
+            }
+        }
+        // neither a pull lost with its coordinator
+        final Iterator<Request> requests = requested.values().iterator();
+        while (requests.hasNext()) {
+            final Request next = requests.next();
+            if (now > next.sentAt + interval.toMillis()) {
+                requests.remove();
+                requestedTasks -= next.tasks;
+            }
+        }
+    }
+
+    private static final class Pulled {
+        private final ActorRef coordinator;
+
+        // correlation id of the coordinator
+        private final long correlationId;
+
+        private final int tasks;
+
+        private final long deadline;
+
+        private Pulled(final ActorRef coordinator, final TaskBatch batch) {
+            this.coordinator = coordinator;
+            this.correlationId = batch.getCorrelationId();
+            this.tasks = batch.getTo() - batch.getFrom();
+            this.deadline = batch.getDeadline();
+        }
+    }
+
+    private static final class Request {
+        private final int tasks;
+
+        private final long sentAt;
+
+        private Request(final int tasks, final long sentAt) {
+            this.tasks = tasks;
+            this.sentAt = sentAt;
+        }
+    }
+
+    private enum Tick {
+        INSTANCE
+    }
+}
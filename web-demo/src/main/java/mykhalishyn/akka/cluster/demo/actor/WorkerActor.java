@@ -1,15 +1,35 @@
 package mykhalishyn.akka.cluster.demo.actor;
 
 import akka.actor.AbstractLoggingActor;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
 import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
 import mykhalishyn.akka.cluster.spring.common.config.Actor;
 import org.apache.commons.lang3.StringUtils;
 
 import java.math.BigInteger;
-import java.util.stream.LongStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * Worker Actor that calculate Factorial of 10000, to simulate the work load
+ * Worker Actor that runs the computation of the task, to simulate the work load.
+ * The computation is the Factorial of 10000 unless the task carries another one.
+ * The result is looked up in the {@link ResultCache} of the node before it is calculated
+ * by the kernel from the {@link KernelRegistry}. Every task is answered with a {@link TaskResult}
+ * that tells how long the task waited before it started and how long it was computed.
+ * A task asking for the value of its computation is answered with a {@link akka.stream.SourceRef}
+ * to the decimal digits of the value instead, the digits are produced and sent in chunks of {@value #CHUNK_BYTES}
+ * digits as the receiver asks for them, so a large value is neither formatted nor sent as a whole.
  *
  * @author dmihalishin@gmail.com
  * @see AbstractLoggingActor
@@ -19,25 +39,112 @@ public class WorkerActor extends AbstractLoggingActor {
 
     public static final String ACTOR_NAME = "/user/workerActor";
 
-    private static final String RESULT_MESSAGE = "%s Finish task #%d.";
+    public static final String DISPATCHER = "worker-dispatcher";
+
+    public static final String MAILBOX = "worker-mailbox";
+
+    static final int CHUNK_BYTES = 32 * 1024;
+
+    private static final Consumer<BigInteger> IGNORE_VALUE = value -> {
+    };
+
+    // id of the node in the results, the HOSTNAME of the container
+    private static final String NODE = StringUtils.defaultString(System.getenv("HOSTNAME"));
+
+    private final ResultCache cache;
+
+    private final KernelRegistry kernels;
+
+    // materializer of the value streams, the streams are stopped with the worker
+    private ActorMaterializer materializer;
+
+    public WorkerActor(final ResultCache cache, final KernelRegistry kernels) {
+        this.cache = cache;
+        this.kernels = kernels;
+    }
 
     @Override
     public Receive createReceive() {
         return receiveBuilder()
                 .match(Task.class, this::processWorkRequest)
+                .match(TaskBatch.class, this::processWorkBatch)
                 .matchAny(this::unhandled)
                 .build();
     }
 
     private void processWorkRequest(final Task request) {
-        log().info("Processing Task #" + request.getIndex());
-        final String host = System.getenv("HOSTNAME");
-        final BigInteger factorial = LongStream.range(2, 10001)
-                .boxed()
-                .map(BigInteger::valueOf)
-                .reduce(BigInteger.ONE, BigInteger::multiply);
-        log().debug("Factorial of 10000 is " + factorial);
-        final String message = String.format(RESULT_MESSAGE, StringUtils.isBlank(host) ? "" : host, request.getIndex());
-        sender().tell(message, self());
+        if (request.getStreamValue()) {
+            streamValue(request);
+            return;
+        }
+        sender().tell(process(request.getIndex(), request.getSentAt(), request.getDeadline(),
+                computation(request.getComputation()), IGNORE_VALUE), self());
+    }
+
+    private void streamValue(final Task request) {
+        final List<BigInteger> values = new ArrayList<>(1);
+        final TaskResult result = process(request.getIndex(), request.getSentAt(), request.getDeadline(),
+                computation(request.getComputation()), values::add);
+        if (result.getOutcome() != Outcome.DONE) {
+            sender().tell(result, self());
+            return;
+        }
+        if (materializer == null) {
+            materializer = ActorMaterializer.create(getContext());
+        }
+        final BigInteger value = values.get(0);
+        // the digits of a chunk are produced when the receiver asks for it, never the digits of the whole value
+        PatternsCS.pipe(Source.fromIterator(() -> new DecimalChunks(value, CHUNK_BYTES))
+                        .runWith(StreamRefs.sourceRef(), materializer),
+                getContext().dispatcher()).to(sender(), self());
+    }
+
+    private void processWorkBatch(final TaskBatch batch) {
+        log().debug("Processing Tasks #{} - #{}", batch.getFrom(), batch.getTo() - 1);
+        final TaskBatchResult.Builder result = TaskBatchResult.newBuilder()
+                .setFrom(batch.getFrom())
+                .setAttempt(batch.getAttempt())
+                .setCorrelationId(batch.getCorrelationId());
+        final Computation computation = computation(batch.getComputation());
+        for (int index = batch.getFrom(); index < batch.getTo(); index++) {
+            result.addResults(process(index, batch.getSentAt(), batch.getDeadline(), computation, IGNORE_VALUE));
+        }
+        sender().tell(result.build(), self());
+    }
+
+    private TaskResult process(final int index,
+                               final long sentAt,
+                               final long deadline,
+                               final Computation computation,
+                               final Consumer<BigInteger> onValue) {
+        final long now = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        final TaskResult.Builder result = TaskResult.newBuilder()
+                .setIndex(index)
+                .setNode(NODE)
+                .setQueueMicros(sentAt > 0 ? Math.max(0, now - sentAt) * 1000 : 0);
+        // the caller is not waiting for the result anymore, do not burn CPU on it
+        if (deadline > 0 && now > deadline) {
+            log().debug("Task #{} expired", index);
+            return result.setOutcome(Outcome.EXPIRED).build();
+        }
+        log().debug("Processing Task #{}", index);
+        try {
+            final BigInteger value = cache.get(computation, () -> kernels.compute(computation));
+            // the bit length only, the decimal digits of a large value cost more than its computation
+            log().debug("Result of {} has {} bits", computation.getKernelCase(), value.bitLength());
+            onValue.accept(value);
+            result.setOutcome(Outcome.DONE);
+        } catch (IllegalArgumentException e) {
+            log().warning("Task #" + index + " failed: " + e.getMessage());
+            result.setOutcome(Outcome.FAILED).setError(e.getMessage());
+        }
+        return result.setComputeMicros((System.nanoTime() - start) / 1000).build();
+    }
+
+    private static Computation computation(final Computation computation) {
+        return computation.getKernelCase() == Computation.KernelCase.KERNEL_NOT_SET
+                ? KernelRegistry.DEFAULT_COMPUTATION
+                : computation;
     }
 }
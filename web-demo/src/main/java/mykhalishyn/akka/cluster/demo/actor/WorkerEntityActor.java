@@ -0,0 +1,54 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.PoisonPill;
+import akka.actor.ReceiveTimeout;
+import akka.cluster.sharding.ShardRegion;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.spring.common.config.Actor;
+import org.springframework.beans.factory.annotation.Value;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker Entity Actor - the {@link WorkerActor} living in a cluster shard.
+ * The shards are spread across the compute nodes and rebalanced when the nodes join or leave.
+ * The entity without any work for the passivation timeout asks its shard to stop it,
+ * the next task for the entity starts it again.
+ *
+ * @author dmihalishin@gmail.com
+ * @see WorkerActor
+ */
+@Actor
+public class WorkerEntityActor extends WorkerActor {
+
+    public static final String TYPE_NAME = "worker";
+
+    private final FiniteDuration passivateAfter;
+
+    public WorkerEntityActor(final ResultCache cache,
+                             final KernelRegistry kernels,
+                             @Value("${work.sharding.passivate-after-millis: 120000}") final Long passivateAfter) {
+        super(cache, kernels);
+        this.passivateAfter = FiniteDuration.create(passivateAfter, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void preStart() {
+        getContext().setReceiveTimeout(passivateAfter);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ReceiveTimeout.class, timeout -> passivate())
+                .build()
+                .orElse(super.createReceive());
+    }
+
+    private void passivate() {
+        log().debug("Passivating idle worker entity {}", self().path().name());
+        getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), self());
+    }
+}
@@ -0,0 +1,135 @@
+package mykhalishyn.akka.cluster.demo.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Local result cache of the worker computations.
+ * <p>
+ * The results are kept in the least recently used order and weighted by their size in bytes,
+ * once the capacity is exceeded the least recently used results are evicted.
+ * The computation runs outside of the lock, so a slow computation does not block the lookups
+ * of the other workers, two workers missing the same key at once may both compute it.
+ * The capacity of {@code 0} disables the cache.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class ResultCache implements MeterBinder {
+
+    // rough size of the map entry, the key and the BigInteger header
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final long capacityBytes;
+
+    private final Map<Object, BigInteger> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private long sizeBytes;
+
+    /**
+     * @param capacityBytes maximum size of the cached results in bytes, {@code 0} disables the cache
+     */
+    public ResultCache(final long capacityBytes) {
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Cached result of the computation, the computation runs on a miss
+     *
+     * @param key         the parameters of the computation. Cannot be {@code null}
+     * @param computation the computation of the result. Cannot be {@code null}
+     * @return result of the computation
+     */
+    public BigInteger get(final Object key, final Supplier<BigInteger> computation) {
+        if (capacityBytes <= 0) {
+            return computation.get();
+        }
+        synchronized (this) {
+            final BigInteger result = results.get(key);
+            if (result != null) {
+                hits.increment();
+                return result;
+            }
+        }
+        misses.increment();
+        final BigInteger result = computation.get();
+        put(key, result);
+        return result;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("work.cache.hits", hits, LongAdder::doubleValue)
+                .description("Results found in the cache")
+                .register(registry);
+        FunctionCounter.builder("work.cache.misses", misses, LongAdder::doubleValue)
+                .description("Results computed on a cache miss")
+                .register(registry);
+        FunctionCounter.builder("work.cache.evictions", evictions, LongAdder::doubleValue)
+                .description("Results evicted from the cache")
+                .register(registry);
+        Gauge.builder("work.cache.size", this, ResultCache::getSizeBytes)
+                .description("Size of the cached results")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private synchronized void put(final Object key, final BigInteger result) {
+        final long weight = weight(result);
+        // never cache a result that alone does not fit, it would evict everything else
+        if (weight > capacityBytes) {
+            return;
+        }
+        final BigInteger previous = results.put(key, result);
+        if (previous != null) {
+            sizeBytes -= weight(previous);
+        }
+        sizeBytes += weight;
+        final Iterator<BigInteger> eldest = results.values().iterator();
+        while (sizeBytes > capacityBytes && eldest.hasNext()) {
+            sizeBytes -= weight(eldest.next());
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long weight(final BigInteger result) {
+        return ENTRY_OVERHEAD + result.bitLength() / 8;
+    }
+}
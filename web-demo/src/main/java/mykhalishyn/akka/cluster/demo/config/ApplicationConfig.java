@@ -2,20 +2,45 @@ package mykhalishyn.akka.cluster.demo.config;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.cluster.pubsub.DistributedPubSub;
 import akka.cluster.routing.ClusterRouterGroup;
 import akka.cluster.routing.ClusterRouterGroupSettings;
+import akka.cluster.sharding.ClusterSharding;
+import akka.cluster.sharding.ClusterShardingSettings;
+import akka.routing.ConsistentHashingGroup;
 import akka.routing.FromConfig;
+import akka.routing.Group;
 import akka.routing.RoundRobinGroup;
+import mykhalishyn.akka.cluster.demo.actor.NodeLoadActor;
+import mykhalishyn.akka.cluster.demo.actor.WorkCoordinatorActor;
+import mykhalishyn.akka.cluster.demo.actor.WorkPullerActor;
 import mykhalishyn.akka.cluster.demo.actor.WorkerActor;
+import mykhalishyn.akka.cluster.demo.actor.WorkerEntityActor;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import mykhalishyn.akka.cluster.demo.kernel.FibonacciKernel;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.kernel.PrimeCountKernel;
+import mykhalishyn.akka.cluster.demo.pull.WorkQueue;
+import mykhalishyn.akka.cluster.demo.routing.AdaptiveGroup;
+import mykhalishyn.akka.cluster.demo.routing.ClusterLoad;
+import mykhalishyn.akka.cluster.demo.routing.TaskHashMapper;
+import mykhalishyn.akka.cluster.demo.routing.TaskMessageExtractor;
+import mykhalishyn.akka.cluster.spring.common.config.AkkaConfig;
 import mykhalishyn.akka.cluster.spring.common.support.SpringExtension;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import scala.concurrent.duration.FiniteDuration;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Application Configuration
@@ -27,8 +52,59 @@ import java.util.Set;
 @ComponentScan("mykhalishyn.akka.cluster.spring.common.config")
 public class ApplicationConfig {
 
+    private static final String ROUND_ROBIN_MODE = "round-robin";
+
+    private static final String ADAPTIVE_MODE = "adaptive";
+
+    private static final String CONSISTENT_HASHING_MODE = "consistent-hashing";
+
+    private static final String SHARDING_MODE = "sharding";
+
+    private static final String PULL_MODE = "pull";
+
+    private static final String COMPUTE_ROLE = "compute";
+
+    /**
+     * Result cache of the worker computations on the node
+     *
+     * @param capacityBytes maximum size of the cached results in bytes, {@code 0} disables the cache. Cannot be {@code null}
+     * @return the result cache
+     */
+    @Bean
+    public ResultCache resultCache(@Value("${work.cache.capacity-bytes: 16777216}") final Long capacityBytes) {
+        return new ResultCache(capacityBytes);
+    }
+
+    /**
+     * Factorial kernel of the workers on the node
+     *
+     * @param parallelism       parallelism of the kernel pool, {@code 0} disables the pool. Cannot be {@code null}
+     * @param parallelThreshold minimum factorial forked on the kernel pool. Cannot be {@code null}
+     * @return the factorial kernel
+     */
+    @Bean
+    public FactorialKernel factorialKernel(@Value("${work.kernel.parallelism: 2}") final Integer parallelism,
+                                           @Value("${work.kernel.parallel-threshold: 50000}") final Integer parallelThreshold) {
+        return new FactorialKernel(parallelism, parallelThreshold);
+    }
+
+    /**
+     * Registry of the worker kernels on the node
+     *
+     * @param factorialKernel the factorial kernel. Cannot be {@code null}
+     * @param maxN            maximum parameter of a computation accepted from the client. Cannot be {@code null}
+     * @return the kernel registry
+     */
+    @Bean
+    public KernelRegistry kernelRegistry(final FactorialKernel factorialKernel,
+                                         @Value("${work.kernel.max-n: 1000000}") final Integer maxN) {
+        return new KernelRegistry(factorialKernel, new FibonacciKernel(), new PrimeCountKernel(), maxN);
+    }
+
     /**
-     * Method that initialize the Worker Actor from Spring Bean
+     * Method that initialize the Worker Actor from Spring Bean.
+     * The workers run on their own {@value WorkerActor#DISPATCHER}, away from the cluster and the web traffic,
+     * their {@value WorkerActor#MAILBOX} counts the backlog of the node.
      *
      * @param system the actor system. Cannot be {@code null}
      * @return reference to worker actor
@@ -39,25 +115,171 @@ public class ApplicationConfig {
                 FromConfig.getInstance()
                         .props(SpringExtension.SPRING_EXTENSION_PROVIDER.get(system)
                                 .props("workerActor")
+                                .withDispatcher(WorkerActor.DISPATCHER)
+                                .withMailbox(WorkerActor.MAILBOX)
                         ), "workerActor");
     }
 
+    /**
+     * Load of the compute nodes of the cluster, used by the adaptive routing
+     *
+     * @param staleMillis millis after which the load of a silent node is unknown. Cannot be {@code null}
+     * @param smoothing   weight of a new sample in the capacity of a node. Cannot be {@code null}
+     * @return the cluster load
+     */
+    @Bean
+    public ClusterLoad clusterLoad(@Value("${work.router.load-stale-millis: 5000}") final Long staleMillis,
+                                   @Value("${work.router.load-smoothing: 0.3}") final Double smoothing) {
+        return new ClusterLoad(staleMillis, smoothing);
+    }
+
+    /**
+     * Method that initialize the Node Load Actor, that publishes the load of this node
+     * and collects the load of the others. Only needed by the adaptive routing.
+     *
+     * @param system      the actor system. Cannot be {@code null}
+     * @param clusterLoad the load of the cluster. Cannot be {@code null}
+     * @param interval    interval of the load samples, millis. Cannot be {@code null}
+     * @return reference to node load actor
+     */
+    @Bean("nodeLoadActorRef")
+    @ConditionalOnProperty(name = "work.router.mode", havingValue = ADAPTIVE_MODE)
+    public ActorRef nodeLoadActor(final ActorSystem system,
+                                  final ClusterLoad clusterLoad,
+                                  @Value("${work.router.load-interval-millis: 1000}") final Long interval) {
+        final int cpus = system.settings().config().getInt(AkkaConfig.CONTAINER_CPUS);
+        return system.actorOf(NodeLoadActor.props(clusterLoad, cpus,
+                FiniteDuration.create(interval, TimeUnit.MILLISECONDS)), "nodeLoad");
+    }
+
+    /**
+     * Queue of the work of the node in the pull mode
+     *
+     * @return the work queue
+     */
+    @Bean
+    public WorkQueue workQueue() {
+        return new WorkQueue();
+    }
+
+    /**
+     * Method that initialize the Work Puller Actor, that pulls the work for the workers of this node
+     * from the coordinators of the cluster. Only needed by the pull mode.
+     *
+     * @param system      the actor system. Cannot be {@code null}
+     * @param workerActor the workers of the node. Cannot be {@code null}
+     * @param capacity    maximum amount of tasks in flight on the workers of the node. Cannot be {@code null}
+     * @param interval    interval of the work announcements, millis. Cannot be {@code null}
+     * @return reference to work puller actor
+     */
+    @Bean("workPullerActorRef")
+    @ConditionalOnProperty(name = "work.router.mode", havingValue = PULL_MODE)
+    public ActorRef workPuller(final ActorSystem system,
+                               @Qualifier("workerActorRef") final ActorRef workerActor,
+                               @Value("${work.pull.capacity-tasks: 200}") final Integer capacity,
+                               @Value("${work.pull.ready-interval-millis: 500}") final Long interval) {
+        return system.actorOf(WorkPullerActor.props(workerActor, capacity, DistributedPubSub.get(system).mediator(),
+                FiniteDuration.create(interval, TimeUnit.MILLISECONDS)), "workPuller");
+    }
+
     /**
      * Method that initialize the Route for Worker Actors.
-     * This will allow to put actors to the Cluster
+     * This will allow to put actors to the Cluster.
+     * The {@code round-robin} mode sends the work to the workers in turn,
+     * the {@code adaptive} mode weights the workers by the load of their nodes,
+     * the {@code consistent-hashing} mode sends the same key, or the same chunk of a computation, to the same node,
+     * the {@code sharding} mode sends the work to the worker entities sharded across the cluster,
+     * the {@code pull} mode queues the work in the coordinator of this node, the compute nodes pull it.
      *
-     * @param system the actor system. Cannot be {@code null}
+     * @param system             the actor system. Cannot be {@code null}
+     * @param clusterLoad        the load of the cluster. Cannot be {@code null}
+     * @param workQueue          the work queue of the node. Cannot be {@code null}
+     * @param mode               the routing mode, {@code round-robin}, {@code adaptive}, {@code consistent-hashing},
+     *                           {@code sharding} or {@code pull}. Cannot be {@code null}
+     * @param virtualNodesFactor amount of virtual nodes per routee on the hash ring. Cannot be {@code null}
+     * @param maxShards          amount of the shards of the worker entities. Cannot be {@code null}
+     * @param readyInterval      interval of the work announcements in the pull mode, millis. Cannot be {@code null}
      * @return reference to worker route
      */
     @Bean("workRouterRef")
-    public ActorRef workRouter(final ActorSystem system) {
+    public ActorRef workRouter(final ActorSystem system,
+                               final ClusterLoad clusterLoad,
+                               final WorkQueue workQueue,
+                               @Value("${work.router.mode: round-robin}") final String mode,
+                               @Value("${work.router.virtual-nodes-factor: 10}") final Integer virtualNodesFactor,
+                               @Value("${work.sharding.max-shards: 100}") final Integer maxShards,
+                               @Value("${work.pull.ready-interval-millis: 500}") final Long readyInterval) {
+        if (SHARDING_MODE.equals(mode)) {
+            return workerShardRegion(system, maxShards);
+        } else if (PULL_MODE.equals(mode)) {
+            return system.actorOf(WorkCoordinatorActor.props(workQueue, DistributedPubSub.get(system).mediator(),
+                    FiniteDuration.create(readyInterval, TimeUnit.MILLISECONDS)), "workCoordinator");
+        }
         final Iterable<String> routesPaths = Collections.singletonList(WorkerActor.ACTOR_NAME);
-        final Set<String> useRoles = new HashSet<>(Collections.singletonList("compute"));
+        final Set<String> useRoles = new HashSet<>(Collections.singletonList(COMPUTE_ROLE));
+        final Group group;
+        switch (mode) {
+            case ROUND_ROBIN_MODE:
+                group = new RoundRobinGroup(routesPaths);
+                break;
+            case ADAPTIVE_MODE:
+                group = new AdaptiveGroup(routesPaths, clusterLoad);
+                break;
+            case CONSISTENT_HASHING_MODE:
+                group = new ConsistentHashingGroup(routesPaths)
+                        .withVirtualNodesFactor(virtualNodesFactor)
+                        .withHashMapper(new TaskHashMapper());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown work router mode: " + mode);
+        }
         return system.actorOf(
                 new ClusterRouterGroup(
-                        new RoundRobinGroup(routesPaths),
+                        group,
                         new ClusterRouterGroupSettings(1000, routesPaths, true, useRoles))
                         .props(), "workRouter");
     }
 
+    /**
+     * Router of the requests for the values of the computations, streamed back by the workers.
+     * It is the work router, except the pull mode, where the value requests are sent
+     * to the workers of the compute nodes in turn.
+     *
+     * @param system     the actor system. Cannot be {@code null}
+     * @param workRouter the work router. Cannot be {@code null}
+     * @param mode       the routing mode. Cannot be {@code null}
+     * @return reference to result route
+     */
+    @Bean("resultRouterRef")
+    public ActorRef resultRouter(final ActorSystem system,
+                                 @Qualifier("workRouterRef") final ActorRef workRouter,
+                                 @Value("${work.router.mode: round-robin}") final String mode) {
+        if (!PULL_MODE.equals(mode)) {
+            return workRouter;
+        }
+        final Iterable<String> routesPaths = Collections.singletonList(WorkerActor.ACTOR_NAME);
+        return system.actorOf(
+                new ClusterRouterGroup(
+                        new RoundRobinGroup(routesPaths),
+                        new ClusterRouterGroupSettings(1000, routesPaths, true,
+                                new HashSet<>(Collections.singletonList(COMPUTE_ROLE))))
+                        .props(), "resultRouter");
+    }
+
+    /**
+     * Start the shard region of the worker entities on the compute nodes.
+     * The least shard allocation strategy moves the shards to the joining nodes,
+     * the idle entities are passivated by {@link WorkerEntityActor}.
+     */
+    private static ActorRef workerShardRegion(final ActorSystem system, final int maxShards) {
+        return ClusterSharding.get(system).start(
+                WorkerEntityActor.TYPE_NAME,
+                SpringExtension.SPRING_EXTENSION_PROVIDER.get(system)
+                        .props("workerEntityActor")
+                        .withDispatcher(WorkerActor.DISPATCHER)
+                        .withMailbox(WorkerActor.MAILBOX),
+                ClusterShardingSettings.create(system).withRole(COMPUTE_ROLE),
+                new TaskMessageExtractor(maxShards));
+    }
+
 }
@@ -1,31 +1,61 @@
 package mykhalishyn.akka.cluster.demo.config;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
-import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import akka.actor.ActorSystem;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.Materializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.AsPublisher;
+import akka.stream.javadsl.Sink;
+import akka.util.ByteString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.actor.WorkAggregatorActor;
+import mykhalishyn.akka.cluster.demo.dto.TaskStatus;
 import mykhalishyn.akka.cluster.demo.dto.WorkRequest;
 import mykhalishyn.akka.cluster.demo.dto.WorkResponse;
+import mykhalishyn.akka.cluster.demo.hedge.HedgingPolicy;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.limit.AdaptiveConcurrencyLimiter;
+import mykhalishyn.akka.cluster.demo.mailbox.MailboxRejectedException;
+import mykhalishyn.akka.cluster.demo.timing.TaskTimings;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
 import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import scala.compat.java8.FutureConverters;
-import scala.concurrent.Future;
 import scala.concurrent.duration.FiniteDuration;
 
-import java.util.List;
-import java.util.concurrent.CompletionStage;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
 
 /**
  * Router Configuration
@@ -35,43 +65,352 @@ import java.util.stream.IntStream;
 @Configuration
 public class RouterConfig {
 
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
     private static final String WORK_ENDPOINT = "/work";
 
-    private static final FiniteDuration DURATION = FiniteDuration.create(30, TimeUnit.SECONDS);
+    private static final String VALUE_ENDPOINT = "/work/value";
+
+    // wraps the chunks of the values without a copy
+    private static final DataBufferFactory DATA_BUFFERS = new DefaultDataBufferFactory();
+
+    private static final ResolvableType TASK_STATUS_TYPE = ResolvableType.forClass(TaskStatus.class);
+
+    /**
+     * Limit of the tasks in flight on the node
+     *
+     * @param initialLimit initial amount of tasks in flight. Cannot be {@code null}
+     * @param minLimit     minimum amount of tasks in flight. Cannot be {@code null}
+     * @param maxLimit     maximum amount of tasks in flight. Cannot be {@code null}
+     * @param tolerance    tolerated growth of the task latency before the limit shrinks. Cannot be {@code null}
+     * @param backoffRatio ratio applied to the limit when a request misses its deadline. Cannot be {@code null}
+     * @return the limiter
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter limiter(@Value("${work.limit.initial: 1000}") final Integer initialLimit,
+                                              @Value("${work.limit.min: 100}") final Integer minLimit,
+                                              @Value("${work.limit.max: 100000}") final Integer maxLimit,
+                                              @Value("${work.limit.tolerance: 1.5}") final Double tolerance,
+                                              @Value("${work.limit.backoff-ratio: 0.9}") final Double backoffRatio) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, backoffRatio);
+    }
+
+    /**
+     * Hedging policy of the slow task chunks
+     *
+     * @param enabled    {@code true} to hedge the slow chunks. Cannot be {@code null}
+     * @param percentile latency percentile after which a chunk is hedged. Cannot be {@code null}
+     * @param budget     ratio of the chunks that can be hedged. Cannot be {@code null}
+     * @param minSamples amount of latency samples needed before the first hedge. Cannot be {@code null}
+     * @param window     amount of the recent latency samples the percentile is taken from. Cannot be {@code null}
+     * @return the hedging policy
+     */
+    @Bean
+    public HedgingPolicy hedging(@Value("${work.hedge.enabled: false}") final Boolean enabled,
+                                 @Value("${work.hedge.percentile: 95}") final Double percentile,
+                                 @Value("${work.hedge.budget: 0.1}") final Double budget,
+                                 @Value("${work.hedge.min-samples: 100}") final Integer minSamples,
+                                 @Value("${work.hedge.window: 1000}") final Integer window) {
+        return new HedgingPolicy(enabled, percentile, budget, minSamples, window);
+    }
+
+    /**
+     * Queue and compute times of the tasks answered to the node
+     *
+     * @return the task timings
+     */
+    @Bean
+    public TaskTimings taskTimings() {
+        return new TaskTimings();
+    }
 
-    private static final Timeout TIMEOUT = Timeout.durationToTimeout(DURATION);
+    /**
+     * Materializer of the value streams received from the workers
+     *
+     * @param system the actor system. Cannot be {@code null}
+     * @return the materializer
+     */
+    @Bean
+    public ActorMaterializer materializer(final ActorSystem system) {
+        return ActorMaterializer.create(system);
+    }
 
     /**
-     * Spring 2 Routes, this is `Controller` layer
-     * @param workerActor the worker actor reference. Cannot be {@code null}
+     * Spring 2 Routes, this is `Controller` layer.
+     * The {@code application/json} route buffers all task statuses into one {@link WorkResponse},
+     * the {@code application/x-ndjson} and {@code text/event-stream} routes write every
+     * {@link TaskStatus} as soon as it arrives, tagged with the index of its task.
+     * Requests over the limit of the node are rejected with {@code 429 Too Many Requests},
+     * requests with an unknown kernel or a parameter out of the range with {@code 400 Bad Request}.
+     * Work rejected by the full mailboxes of the workers is answered with {@code 503 Service Unavailable}
+     * on the {@code application/json} route, the streaming routes end with the rejected task statuses.
+     * The {@code /work/value} route answers the decimal digits of the value of the computation as {@code text/plain},
+     * a worker streams them in chunks through a {@link SourceRef}, which are written to the response
+     * as the client reads them.
+     *
+     * @param system        the actor system. Cannot be {@code null}
+     * @param workerActor   the worker actor reference. Cannot be {@code null}
+     * @param resultRouter  the router of the value requests to the workers. Cannot be {@code null}
+     * @param materializer  the materializer of the value streams. Cannot be {@code null}
+     * @param objectMapper  the object mapper used to write the NDJSON lines. Cannot be {@code null}
+     * @param limiter       the limiter of the tasks in flight. Cannot be {@code null}
+     * @param hedging       the hedging policy of the slow chunks. Cannot be {@code null}
+     * @param timings       the timings of the answered tasks. Cannot be {@code null}
+     * @param kernels       the registry of the kernels the tasks can run. Cannot be {@code null}
+     * @param maxInFlight   maximum amount of task chunks asked at once for a single request. Cannot be {@code null}
+     * @param batchSize     maximum amount of tasks sent to a worker in one message. Cannot be {@code null}
+     * @param maxRejections amount of retries of a chunk rejected by the full worker mailboxes. Cannot be {@code null}
+     * @param retryAfter    seconds the rejected client should wait before retrying. Cannot be {@code null}
+     * @param timeout       timeout of the request if the client does not set one, millis. Cannot be {@code null}
+     * @param maxTimeout    maximum timeout the client can set, millis. Cannot be {@code null}
      * @return application routes
      */
     @Bean
-    public RouterFunction<ServerResponse> route(@Qualifier("workRouterRef") final ActorRef workerActor) {
+    public RouterFunction<ServerResponse> route(final ActorSystem system,
+                                                @Qualifier("workRouterRef") final ActorRef workerActor,
+                                                @Qualifier("resultRouterRef") final ActorRef resultRouter,
+                                                final Materializer materializer,
+                                                final ObjectMapper objectMapper,
+                                                final AdaptiveConcurrencyLimiter limiter,
+                                                final HedgingPolicy hedging,
+                                                final TaskTimings timings,
+                                                final KernelRegistry kernels,
+                                                @Value("${work.dispatch.max-in-flight: 64}") final Integer maxInFlight,
+                                                @Value("${work.dispatch.batch-size: 100}") final Integer batchSize,
+                                                @Value("${work.dispatch.max-rejections: 2}") final Integer maxRejections,
+                                                @Value("${work.limit.retry-after-seconds: 1}") final Integer retryAfter,
+                                                @Value("${work.timeout.default-millis: 30000}") final Long timeout,
+                                                @Value("${work.timeout.max-millis: 300000}") final Long maxTimeout) {
+        final EncoderHttpMessageWriter<Object> ndjsonWriter = ndjsonWriter(objectMapper);
+        final AdmittedRequest<Flux<TaskStatus>> work = (workRequest, computation, release) -> work(system,
+                workerActor, workRequest, computation, release, limiter, hedging, timings, maxInFlight, batchSize,
+                maxRejections, timeout(workRequest, timeout, maxTimeout));
         return RouterFunctions.route(
                 // route initialization
                 RequestPredicates.POST(WORK_ENDPOINT).and(RequestPredicates.accept(MediaType.APPLICATION_JSON)),
-                request -> request.bodyToMono(WorkRequest.class)
-                        .map(workRequest -> {
-                            // convert request to amount of tasks to execute
-                            final List<Mono<String>> tasks = IntStream.range(0, workRequest.getTasks())
-                                    .boxed()
-                                    .map(index -> {
-                                        // ask worker actor to do specific task
-                                        final Future<Object> future = Patterns.ask(workerActor, Task.newBuilder().setIndex(index).build(), TIMEOUT);
-                                        // convert scala Future to java CompletionStage
-                                        final CompletionStage<String> stage = FutureConverters.toJava(future).thenApply(Object::toString);
-                                        return Mono.fromCompletionStage(stage).onErrorReturn("Task #" + index + " failed");
-                                    })
-                                    .collect(Collectors.toList());
-
-                            // concatenate all tasks and reduce them to worker response
-                            return Flux.concat(tasks).reduceWith(WorkResponse::new, (response, status) -> {
-                                response.getStatuses().add(status);
-                                return response;
-                            });
-                        }).flatMap(answer -> ServerResponse.ok().body(answer, WorkResponse.class))
-                        .switchIfEmpty(ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                handler(kernels, limiter, retryAfter, RouterConfig::tasks, (workRequest, computation, release) -> work
+                        .apply(workRequest, computation, release)
+                        // reduce all task statuses to worker response, in the order of the tasks
+                        .collectSortedList(Comparator.comparingInt(TaskStatus::getIndex))
+                        .map(statuses -> {
+                            final WorkResponse response = new WorkResponse();
+                            statuses.forEach(status -> response.getStatuses().add(status.getStatus()));
+                            return response;
+                        })
+                        .flatMap(response -> ServerResponse.ok().syncBody(response))
+                        .onErrorResume(MailboxRejectedException.class, e -> unavailable(retryAfter)))
+        ).andRoute(
+                RequestPredicates.POST(WORK_ENDPOINT).and(RequestPredicates.accept(APPLICATION_NDJSON)),
+                handler(kernels, limiter, retryAfter, RouterConfig::tasks, (workRequest, computation, release) ->
+                        ServerResponse.ok()
+                                .contentType(APPLICATION_NDJSON)
+                                .body(ndjson(ndjsonWriter, work.apply(workRequest, computation, release)
+                                        .onErrorResume(MailboxRejectedException.class, e -> Flux.empty()))))
+        ).andRoute(
+                RequestPredicates.POST(WORK_ENDPOINT).and(RequestPredicates.accept(MediaType.TEXT_EVENT_STREAM)),
+                handler(kernels, limiter, retryAfter, RouterConfig::tasks, (workRequest, computation, release) ->
+                        ServerResponse.ok()
+                                .contentType(MediaType.TEXT_EVENT_STREAM)
+                                .body(work.apply(workRequest, computation, release)
+                                        .onErrorResume(MailboxRejectedException.class, e -> Flux.empty()), TaskStatus.class))
+        ).andRoute(
+                RequestPredicates.POST(VALUE_ENDPOINT),
+                // a single computation, whatever the amount of tasks of the request
+                handler(kernels, limiter, retryAfter, workRequest -> 1, (workRequest, computation, release) ->
+                        value(resultRouter, materializer, computation, timeout(workRequest, timeout, maxTimeout), retryAfter)
+                                // the computation is over once the worker answers, streaming the digits is not limited
+                                .doFinally(signal -> release.run()))
         );
     }
+
+    /**
+     * Handler that resolves the computation of the request and admits the request into the limit
+     * of the node before the response is built. The permits are released once, when the response
+     * releases them or when it fails or is cancelled before
+     *
+     * @param kernels    the registry of the kernels. Cannot be {@code null}
+     * @param limiter    the limiter of the tasks in flight. Cannot be {@code null}
+     * @param retryAfter seconds the rejected client should wait before retrying
+     * @param permits    amount of permits the request takes from the limiter. Cannot be {@code null}
+     * @param response   the response for the admitted request and its computation. Cannot be {@code null}
+     * @return the handler
+     */
+    private static HandlerFunction<ServerResponse> handler(final KernelRegistry kernels,
+                                                           final AdaptiveConcurrencyLimiter limiter,
+                                                           final int retryAfter,
+                                                           final ToIntFunction<WorkRequest> permits,
+                                                           final AdmittedRequest<Mono<ServerResponse>> response) {
+        return request -> request.bodyToMono(WorkRequest.class)
+                .flatMap(workRequest -> {
+                    final Computation computation;
+                    try {
+                        computation = kernels.computation(workRequest.getKernel(), workRequest.getN());
+                    } catch (IllegalArgumentException e) {
+                        return badRequest(e.getMessage());
+                    }
+                    final int amount = permits.applyAsInt(workRequest);
+                    if (amount <= 0) {
+                        return badRequest("Amount of tasks must be positive");
+                    } else if (amount > limiter.getMaxLimit()) {
+                        return badRequest("Request must have at most " + limiter.getMaxLimit() + " tasks");
+                    } else if (!limiter.tryAcquire(amount)) {
+                        return tooManyRequests(retryAfter);
+                    }
+                    final AtomicBoolean released = new AtomicBoolean();
+                    final Runnable release = () -> {
+                        if (released.compareAndSet(false, true)) {
+                            limiter.release(amount);
+                        }
+                    };
+                    return response.apply(workRequest, computation, release)
+                            .doOnError(e -> release.run())
+                            .doOnCancel(release);
+                })
+                .switchIfEmpty(ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+    }
+
+    /**
+     * Convert the request to the stream of task statuses, in the order the statuses arrive.
+     * Tasks are split into {@link MessageProto.TaskBatch} chunks and a single {@link WorkAggregatorActor}
+     * dispatches them and collects all the replies of the request.
+     * The admitted tasks are released once the stream terminates.
+     *
+     * @param system        the actor system. Cannot be {@code null}
+     * @param workerActor   the worker actor reference. Cannot be {@code null}
+     * @param workRequest   the admitted work request. Cannot be {@code null}
+     * @param computation   the computation of every task of the request. Cannot be {@code null}
+     * @param release       the release of the permits of the request. Cannot be {@code null}
+     * @param limiter       the limiter of the tasks in flight. Cannot be {@code null}
+     * @param hedging       the hedging policy of the slow chunks. Cannot be {@code null}
+     * @param timings       the timings of the answered tasks. Cannot be {@code null}
+     * @param maxInFlight   maximum amount of chunks in flight for the request
+     * @param batchSize     maximum amount of tasks in one chunk
+     * @param maxRejections amount of retries of a chunk rejected by the full worker mailboxes
+     * @param timeout       timeout of the request. Cannot be {@code null}
+     * @return stream of task statuses
+     */
+    private static Flux<TaskStatus> work(final ActorSystem system, final ActorRef workerActor, final WorkRequest workRequest,
+                                         final Computation computation, final Runnable release,
+                                         final AdaptiveConcurrencyLimiter limiter,
+                                         final HedgingPolicy hedging, final TaskTimings timings,
+                                         final int maxInFlight, final int batchSize,
+                                         final int maxRejections, final FiniteDuration timeout) {
+        final int tasks = workRequest.getTasks();
+        final MessageProto.TaskBatch template = MessageProto.TaskBatch.newBuilder()
+                .setComputation(computation)
+                .setKey(workRequest.getKey() == null ? "" : workRequest.getKey())
+                .setRequestId(ThreadLocalRandom.current().nextLong())
+                .build();
+        // small requests are spread across as many routees as the chunks in flight allow
+        final int chunk = Math.max(1, Math.min(batchSize, (tasks + maxInFlight - 1) / maxInFlight));
+        return Flux.<TaskStatus>create(sink -> system.actorOf(
+                WorkAggregatorActor.props(workerActor, sink, template, tasks, chunk, maxInFlight, timeout, limiter,
+                        hedging, maxRejections, timings)))
+                .doFinally(signal -> release.run());
+    }
+
+    /**
+     * Ask a worker for the value of the computation and pipe the chunks of its digits into the response
+     *
+     * @param resultRouter the router of the value requests to the workers. Cannot be {@code null}
+     * @param materializer the materializer of the value stream. Cannot be {@code null}
+     * @param computation  the computation. Cannot be {@code null}
+     * @param timeout      timeout of the computation. Cannot be {@code null}
+     * @param retryAfter   seconds the rejected client should wait before retrying
+     * @return the response with the digits of the value
+     */
+    @SuppressWarnings("unchecked")
+    private static Mono<ServerResponse> value(final ActorRef resultRouter, final Materializer materializer,
+                                              final Computation computation, final FiniteDuration timeout,
+                                              final int retryAfter) {
+        final long now = System.currentTimeMillis();
+        final MessageProto.Task task = MessageProto.Task.newBuilder()
+                .setComputation(computation)
+                .setDeadline(now + timeout.toMillis())
+                .setSentAt(now)
+                .setStreamValue(true)
+                .build();
+        return Mono.fromCompletionStage(PatternsCS.ask(resultRouter, task, timeout.toMillis()))
+                .flatMap(reply -> {
+                    if (reply instanceof SourceRef) {
+                        final Flux<DataBuffer> digits = Flux.from(((SourceRef<ByteString>) reply).getSource()
+                                .runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer))
+                                .map(chunk -> DATA_BUFFERS.wrap(chunk.asByteBuffer()));
+                        return ServerResponse.ok()
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .body(BodyInserters.fromDataBuffers(digits));
+                    } else if (reply instanceof TaskRejected) {
+                        return unavailable(retryAfter);
+                    }
+                    final TaskResult result = (TaskResult) reply;
+                    return result.getOutcome() == Outcome.EXPIRED
+                            ? ServerResponse.status(HttpStatus.GATEWAY_TIMEOUT).build()
+                            : ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .syncBody(result.getError());
+                })
+                .onErrorResume(AskTimeoutException.class, e -> ServerResponse.status(HttpStatus.GATEWAY_TIMEOUT).build());
+    }
+
+    /**
+     * Response to the request that does not fit the limit of the node, the client should retry later
+     */
+    private static Mono<ServerResponse> tooManyRequests(final int retryAfter) {
+        return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .build();
+    }
+
+    private static Mono<ServerResponse> badRequest(final String message) {
+        return ServerResponse.badRequest().contentType(MediaType.TEXT_PLAIN).syncBody(message);
+    }
+
+    /**
+     * Amount of tasks of the request, {@code 0} if the client did not set it
+     */
+    private static int tasks(final WorkRequest workRequest) {
+        return workRequest.getTasks() == null ? 0 : workRequest.getTasks();
+    }
+
+    /**
+     * Response to the work rejected by the workers, the client should retry later
+     */
+    private static Mono<ServerResponse> unavailable(final int retryAfter) {
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .build();
+    }
+
+    /**
+     * Timeout set by the client, limited by the maximum timeout
+     */
+    private static FiniteDuration timeout(final WorkRequest workRequest, final long timeout, final long maxTimeout) {
+        final long millis = workRequest.getTimeout() == null || workRequest.getTimeout() <= 0
+                ? timeout
+                : Math.min(workRequest.getTimeout(), maxTimeout);
+        return FiniteDuration.create(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writer that flushes every JSON line, so the client sees each status as soon as it is written
+     */
+    private static EncoderHttpMessageWriter<Object> ndjsonWriter(final ObjectMapper objectMapper) {
+        final Jackson2JsonEncoder encoder = new Jackson2JsonEncoder(objectMapper, APPLICATION_NDJSON);
+        encoder.setStreamingMediaTypes(Collections.singletonList(APPLICATION_NDJSON));
+        return new EncoderHttpMessageWriter<>(encoder);
+    }
+
+    private static BodyInserter<Flux<TaskStatus>, ServerHttpResponse> ndjson(final EncoderHttpMessageWriter<Object> writer,
+                                                                            final Flux<TaskStatus> statuses) {
+        return (response, context) -> writer.write(statuses, TASK_STATUS_TYPE, APPLICATION_NDJSON, response, context.hints());
+    }
+
+    /**
+     * Answer to the request admitted into the limit, which runs the release of its permits once its work is over
+     */
+    @FunctionalInterface
+    private interface AdmittedRequest<T> {
+
+        T apply(WorkRequest workRequest, Computation computation, Runnable release);
+    }
 }
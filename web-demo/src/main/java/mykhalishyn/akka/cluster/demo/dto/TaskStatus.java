@@ -0,0 +1,29 @@
+package mykhalishyn.akka.cluster.demo.dto;
+
+import java.io.Serializable;
+
+/**
+ * Status of a single task, the element of the streamed work response
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class TaskStatus implements Serializable {
+    private static final long serialVersionUID = 3467183626950318425L;
+
+    private final int index;
+
+    private final String status;
+
+    public TaskStatus(final int index, final String status) {
+        this.index = index;
+        this.status = status;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
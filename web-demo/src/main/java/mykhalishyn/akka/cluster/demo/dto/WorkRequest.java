@@ -7,6 +7,18 @@ public class WorkRequest {
 
     private Integer tasks = 1;
 
+    // milliseconds the client is going to wait for the work, {@code null} - the default timeout
+    private Long timeout;
+
+    // name of the kernel of the tasks, {@code null} - the factorial
+    private String kernel;
+
+    // parameter of the kernel, {@code null} - 10000
+    private Integer n;
+
+    // key of the work, the keyed work stays on one worker entity in the sharding mode
+    private String key;
+
     public Integer getTasks() {
         return tasks;
     }
@@ -14,4 +26,36 @@ public class WorkRequest {
     public void setTasks(Integer tasks) {
         this.tasks = tasks;
     }
+
+    public Long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Long timeout) {
+        this.timeout = timeout;
+    }
+
+    public String getKernel() {
+        return kernel;
+    }
+
+    public void setKernel(String kernel) {
+        this.kernel = kernel;
+    }
+
+    public Integer getN() {
+        return n;
+    }
+
+    public void setN(Integer n) {
+        this.n = n;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
 }
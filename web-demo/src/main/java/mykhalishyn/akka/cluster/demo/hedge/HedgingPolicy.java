@@ -0,0 +1,154 @@
+package mykhalishyn.akka.cluster.demo.hedge;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging policy of the node.
+ * <p>
+ * Keeps the recent per-task latencies, so a chunk without a reply after the configured latency percentile
+ * can be duplicated to another routee, the first reply wins. The amount of duplicates is capped by a budget:
+ * every first attempt earns {@code budget} of a hedge, so with the budget {@code 0.1} at most 10%
+ * of the chunks are sent twice.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class HedgingPolicy implements MeterBinder {
+
+    // amount of the budget that can be saved up while nothing is hedged
+    private static final double MAX_TOKENS = 10;
+
+    private final boolean enabled;
+
+    private final double percentile;
+
+    private final double budget;
+
+    private final int minSamples;
+
+    // ring of the recent per-task latencies, nanos
+    private final long[] samples;
+
+    private final LongAdder fired = new LongAdder();
+
+    private final LongAdder won = new LongAdder();
+
+    private int count;
+
+    private double tokens;
+
+    /**
+     * @param enabled    {@code true} to hedge slow chunks
+     * @param percentile latency percentile after which a chunk is hedged, e.g. {@code 95}
+     * @param budget     ratio of the chunks that can be hedged, e.g. {@code 0.1}
+     * @param minSamples amount of latency samples needed before the first hedge
+     * @param window     amount of the recent latency samples the percentile is taken from
+     */
+    public HedgingPolicy(final boolean enabled,
+                         final double percentile,
+                         final double budget,
+                         final int minSamples,
+                         final int window) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budget = budget;
+        this.minSamples = minSamples;
+        this.samples = new long[window];
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record the latency of a chunk
+     *
+     * @param latencyNanos latency of the chunk, from dispatch to reply
+     * @param tasks        amount of tasks of the chunk
+     */
+    public synchronized void onSample(final long latencyNanos, final int tasks) {
+        samples[count++ % samples.length] = latencyNanos / Math.max(1, tasks);
+        if (count == 2 * samples.length) {
+            // keep the position in the ring, avoid the overflow
+            count = samples.length;
+        }
+    }
+
+    /**
+     * Delay after which the chunk without a reply is hedged
+     *
+     * @param tasks amount of tasks of the chunk
+     * @return delay in nanos, {@code -1} if the chunk should not be hedged
+     */
+    public long hedgeDelay(final int tasks) {
+        if (!enabled) {
+            return -1;
+        }
+        final long[] recent;
+        synchronized (this) {
+            if (count < minSamples) {
+                return -1;
+            }
+            recent = Arrays.copyOf(samples, Math.min(count, samples.length));
+        }
+        Arrays.sort(recent);
+        final int rank = (int) Math.ceil(percentile / 100 * recent.length) - 1;
+        return recent[Math.max(0, Math.min(recent.length - 1, rank))] * tasks;
+    }
+
+    /**
+     * A first attempt of a chunk is dispatched, it earns the budget for the hedges
+     */
+    public synchronized void onPrimary() {
+        tokens = Math.min(MAX_TOKENS, tokens + budget);
+    }
+
+    /**
+     * Take the budget for a hedge
+     *
+     * @return {@code true} if the hedge is within the budget and must be sent
+     */
+    public synchronized boolean tryHedge() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        fired.increment();
+        return true;
+    }
+
+    /**
+     * The hedge replied before the first attempt
+     */
+    public void onHedgeWon() {
+        won.increment();
+    }
+
+    public long getFired() {
+        return fired.sum();
+    }
+
+    public long getWon() {
+        return won.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("work.hedge.fired", fired, LongAdder::doubleValue)
+                .description("Chunks sent a second time")
+                .register(registry);
+        FunctionCounter.builder("work.hedge.won", won, LongAdder::doubleValue)
+                .description("Hedged chunks answered by the second attempt first")
+                .register(registry);
+    }
+}
@@ -0,0 +1,115 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Factorial kernel of the workers.
+ * <p>
+ * The factorial is computed as a product tree (binary splitting): the range is split in halves
+ * until the leaves, so the big multiplications happen between numbers of a similar size,
+ * where {@link BigInteger} switches to Karatsuba and Toom-Cook. The leaves multiply primitive longs
+ * while the product fits into a long. For {@code n} from the parallel threshold the halves
+ * of the tree are forked on the bounded pool of the kernel.
+ *
+ * @author dmihalishin@gmail.com
+ * @see ForkJoinPool
+ */
+public class FactorialKernel implements AutoCloseable {
+
+    // ranges up to this size are multiplied without splitting
+    private static final int LEAF_SIZE = 32;
+
+    // ranges up to this size are not forked
+    private static final int FORK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+
+    private final int parallelThreshold;
+
+    /**
+     * @param parallelism       parallelism of the pool, {@code 0} computes every factorial on the caller thread
+     * @param parallelThreshold minimum {@code n} which is forked on the pool
+     */
+    public FactorialKernel(final int parallelism, final int parallelThreshold) {
+        this.pool = parallelism > 0 ? new ForkJoinPool(parallelism) : null;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Factorial of {@code n}
+     *
+     * @param n the number, not negative
+     * @return {@code n!}
+     */
+    public BigInteger factorial(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Factorial of negative number " + n);
+        }
+        if (pool == null || n < parallelThreshold) {
+            return product(2, n + 1L);
+        }
+        return pool.invoke(new ProductTask(2, n + 1L));
+    }
+
+    /**
+     * Product of the range
+     *
+     * @param from first number of the range, inclusive
+     * @param to   last number of the range, exclusive
+     * @return product of the numbers in the range, {@code 1} for the empty range
+     */
+    public static BigInteger product(final long from, final long to) {
+        if (to - from <= LEAF_SIZE) {
+            return leaf(from, to);
+        }
+        final long middle = (from + to) >>> 1;
+        return product(from, middle).multiply(product(middle, to));
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static BigInteger leaf(final long from, final long to) {
+        BigInteger result = BigInteger.ONE;
+        long partial = 1;
+        for (long i = from; i < to; i++) {
+            if (partial > Long.MAX_VALUE / i) {
+                result = result.multiply(BigInteger.valueOf(partial));
+                partial = 1;
+            }
+            partial *= i;
+        }
+        return result.multiply(BigInteger.valueOf(partial));
+    }
+
+    private static final class ProductTask extends RecursiveTask<BigInteger> {
+        private static final long serialVersionUID = -4209657461187203542L;
+
+        private final long from;
+
+        private final long to;
+
+        private ProductTask(final long from, final long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (to - from <= FORK_SIZE) {
+                return product(from, to);
+            }
+            final long middle = (from + to) >>> 1;
+            final ProductTask left = new ProductTask(from, middle);
+            left.fork();
+            final BigInteger right = new ProductTask(middle, to).compute();
+            return left.join().multiply(right);
+        }
+    }
+}
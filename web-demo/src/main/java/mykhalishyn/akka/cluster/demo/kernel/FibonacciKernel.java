@@ -0,0 +1,41 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import java.math.BigInteger;
+
+/**
+ * Fibonacci kernel of the workers.
+ * <p>
+ * The number is computed by the fast doubling, {@code F(2k) = F(k) * (2F(k+1) - F(k))}
+ * and {@code F(2k+1) = F(k+1)^2 + F(k)^2}, in {@code log n} steps over the bits of {@code n}.
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class FibonacciKernel {
+
+    /**
+     * Fibonacci number
+     *
+     * @param n the index of the number, not negative
+     * @return {@code F(n)}
+     */
+    public BigInteger fibonacci(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Fibonacci of negative number " + n);
+        }
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            // (a, b) = (F(k), F(k+1)) -> (F(2k), F(2k+1))
+            final BigInteger even = a.multiply(b.shiftLeft(1).subtract(a));
+            final BigInteger odd = a.multiply(a).add(b.multiply(b));
+            if ((n >>> bit & 1) == 0) {
+                a = even;
+                b = odd;
+            } else {
+                a = odd;
+                b = even.add(odd);
+            }
+        }
+        return a;
+    }
+}
@@ -0,0 +1,160 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation.KernelCase;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Fibonacci;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.PrimeCount;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Registry of the worker kernels.
+ * <p>
+ * Every kernel is registered under the case of the {@link Computation} oneof, which carries
+ * the typed parameters of the kernel. The kernels are dispatched through a table indexed
+ * by the number of the case, so a task costs an array lookup. Every kernel has its own
+ * {@code work.kernel} timer tagged with the name of the kernel.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class KernelRegistry implements MeterBinder {
+
+    /**
+     * The computation of a task without a kernel
+     */
+    public static final Computation DEFAULT_COMPUTATION = Computation.newBuilder()
+            .setFactorial(Factorial.newBuilder().setN(10000))
+            .build();
+
+    public static final String FACTORIAL = "factorial";
+
+    public static final String FIBONACCI = "fibonacci";
+
+    public static final String PRIME_COUNT = "prime-count";
+
+    private final Entry[] table = new Entry[Arrays.stream(KernelCase.values())
+            .mapToInt(KernelCase::getNumber)
+            .max()
+            .orElse(0) + 1];
+
+    // builders of the computations by the name of the kernel
+    private final Map<String, IntFunction<Computation>> computations = new HashMap<>();
+
+    private final int maxN;
+
+    /**
+     * @param factorial  the factorial kernel. Cannot be {@code null}
+     * @param fibonacci  the Fibonacci kernel. Cannot be {@code null}
+     * @param primeCount the prime counting kernel. Cannot be {@code null}
+     * @param maxN       maximum parameter of a computation accepted from the client
+     */
+    public KernelRegistry(final FactorialKernel factorial,
+                          final FibonacciKernel fibonacci,
+                          final PrimeCountKernel primeCount,
+                          final int maxN) {
+        this.maxN = maxN;
+        register(KernelCase.FACTORIAL, FACTORIAL,
+                computation -> factorial.factorial(computation.getFactorial().getN()),
+                n -> Computation.newBuilder().setFactorial(Factorial.newBuilder().setN(n)).build());
+        register(KernelCase.FIBONACCI, FIBONACCI,
+                computation -> fibonacci.fibonacci(computation.getFibonacci().getN()),
+                n -> Computation.newBuilder().setFibonacci(Fibonacci.newBuilder().setN(n)).build());
+        register(KernelCase.PRIME_COUNT, PRIME_COUNT,
+                computation -> primeCount.primeCount(computation.getPrimeCount().getLimit()),
+                n -> Computation.newBuilder().setPrimeCount(PrimeCount.newBuilder().setLimit(n)).build());
+    }
+
+    /**
+     * Computation requested by the client
+     *
+     * @param kernel name of the kernel, {@code null} - the factorial
+     * @param n      parameter of the kernel, {@code null} - the parameter of the default computation
+     * @return the computation
+     * @throws IllegalArgumentException if the kernel is unknown or the parameter is out of the range
+     */
+    public Computation computation(final String kernel, final Integer n) {
+        final IntFunction<Computation> builder = computations.get(kernel == null ? FACTORIAL : kernel);
+        if (builder == null) {
+            throw new IllegalArgumentException("Unknown kernel: " + kernel);
+        }
+        final int parameter = n == null ? DEFAULT_COMPUTATION.getFactorial().getN() : n;
+        if (parameter < 0 || parameter > maxN) {
+            throw new IllegalArgumentException("Parameter of the kernel must be between 0 and " + maxN + ": " + n);
+        }
+        return builder.apply(parameter);
+    }
+
+    /**
+     * Compute the result of the computation with its kernel
+     *
+     * @param computation the computation. Cannot be {@code null}
+     * @return the result
+     * @throws IllegalArgumentException if the kernel of the computation is not registered
+     */
+    public BigInteger compute(final Computation computation) {
+        final Entry entry = table[computation.getKernelCase().getNumber()];
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown kernel: " + computation.getKernelCase());
+        }
+        final long start = System.nanoTime();
+        try {
+            return entry.kernel.apply(computation);
+        } finally {
+            entry.count.increment();
+            entry.totalNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (final Entry entry : table) {
+            if (entry != null) {
+                FunctionTimer.builder("work.kernel", entry,
+                        e -> e.count.sum(), e -> e.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                        .tag("kernel", entry.name)
+                        .description("Computations of the kernel")
+                        .register(registry);
+            }
+        }
+    }
+
+    private void register(final KernelCase kernelCase,
+                          final String name,
+                          final Function<Computation, BigInteger> kernel,
+                          final IntFunction<Computation> computation) {
+        table[kernelCase.getNumber()] = new Entry(name, kernel);
+        computations.put(name, computation);
+    }
+
+    private static final class Entry {
+        private final String name;
+
+        private final Function<Computation, BigInteger> kernel;
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private Entry(final String name, final Function<Computation, BigInteger> kernel) {
+            this.name = name;
+            this.kernel = kernel;
+        }
+    }
+}
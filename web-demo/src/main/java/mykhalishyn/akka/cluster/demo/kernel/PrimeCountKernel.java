@@ -0,0 +1,40 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+/**
+ * Prime counting kernel of the workers, the sieve of Eratosthenes over the odd numbers
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class PrimeCountKernel {
+
+    /**
+     * Amount of primes not greater than the limit
+     *
+     * @param limit the limit, not negative
+     * @return {@code pi(limit)}
+     */
+    public BigInteger primeCount(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Prime count of negative number " + limit);
+        }
+        if (limit < 2) {
+            return BigInteger.ZERO;
+        }
+        // bit i stands for the odd number 2i + 1, set - composite
+        final int size = (limit - 1) / 2 + 1;
+        final BitSet composite = new BitSet(size);
+        composite.set(0);
+        for (long p = 3; p * p <= limit; p += 2) {
+            if (!composite.get((int) (p / 2))) {
+                for (long multiple = p * p; multiple <= limit; multiple += 2 * p) {
+                    composite.set((int) (multiple / 2));
+                }
+            }
+        }
+        // 2 is the only even prime
+        return BigInteger.valueOf(1 + size - composite.cardinality());
+    }
+}
@@ -0,0 +1,161 @@
+package mykhalishyn.akka.cluster.demo.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit of the tasks in flight on the node.
+ * <p>
+ * The limit follows the gradient of the per-task latency: a long term average of the latency is compared
+ * with every new sample, while the latency stays close to the average the limit grows by a small queue
+ * allowance, once the latency goes up the limit shrinks proportionally. Every change is smoothed,
+ * so a single slow sample cannot collapse the limit.
+ * A dropped sample (deadline missed) shrinks the limit by the backoff ratio.
+ * Work over the limit is not admitted, so the workers stay close to their peak throughput
+ * instead of collapsing into timeouts.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    // amount of samples in the long term latency average
+    private static final double LONG_WINDOW = 600;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double tolerance;
+
+    private final double backoffRatio;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private double limit;
+
+    private double longLatency;
+
+    private int inFlight;
+
+    /**
+     * @param initialLimit initial amount of tasks in flight
+     * @param minLimit     minimum amount of tasks in flight
+     * @param maxLimit     maximum amount of tasks in flight
+     * @param tolerance    tolerated ratio of the latency sample to the long term latency, e.g. {@code 1.5}
+     * @param backoffRatio ratio applied to the limit when the deadline is missed, e.g. {@code 0.9}
+     */
+    public AdaptiveConcurrencyLimiter(final int initialLimit,
+                                      final int minLimit,
+                                      final int maxLimit,
+                                      final double tolerance,
+                                      final double backoffRatio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * Admit the tasks if they fit into the limit. An idle node admits up to the maximum limit,
+     * so requests bigger than the current limit are still served and the limit can learn from them.
+     *
+     * @param tasks amount of tasks to admit, from {@code 1} to the {@link #getMaxLimit() maximum limit}
+     * @return {@code true} if the tasks are admitted and must be {@link #release(int) released} later
+     * @throws IllegalArgumentException if the amount of tasks is out of the range
+     */
+    public synchronized boolean tryAcquire(final int tasks) {
+        if (tasks <= 0 || tasks > maxLimit) {
+            throw new IllegalArgumentException("Amount of tasks must be between 1 and " + maxLimit + ": " + tasks);
+        }
+        if (inFlight > 0 && inFlight + tasks > (int) limit) {
+            rejected.increment();
+            return false;
+        }
+        inFlight += tasks;
+        return true;
+    }
+
+    /**
+     * Release the admitted tasks
+     *
+     * @param tasks amount of admitted tasks
+     */
+    public synchronized void release(final int tasks) {
+        inFlight -= tasks;
+    }
+
+    /**
+     * Adjust the limit with the observed latency
+     *
+     * @param latencyNanos latency of the tasks, from dispatch to reply
+     * @param tasks        amount of tasks observed
+     */
+    public synchronized void onSample(final long latencyNanos, final int tasks) {
+        final double sample = (double) latencyNanos / Math.max(1, tasks);
+        if (longLatency == 0) {
+            longLatency = sample;
+        } else {
+            longLatency += (sample - longLatency) / LONG_WINDOW;
+            // recover faster once the overload is over
+            if (longLatency > 2 * sample) {
+                longLatency *= 0.95;
+            }
+        }
+        // not enough load to say anything about the limit
+        if (inFlight < limit / 2) {
+            return;
+        }
+        final double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / sample));
+        final double newLimit = limit * gradient + Math.sqrt(limit);
+        update(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    /**
+     * Shrink the limit after a missed deadline
+     */
+    public synchronized void onDrop() {
+        update(limit * backoffRatio);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("work.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Limit of the tasks in flight")
+                .register(registry);
+        Gauge.builder("work.in.flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Admitted tasks in flight")
+                .register(registry);
+        FunctionCounter.builder("work.rejected", rejected, LongAdder::doubleValue)
+                .description("Requests rejected by the limit")
+                .register(registry);
+    }
+
+    private void update(final double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,16 @@
+package mykhalishyn.akka.cluster.demo.mailbox;
+
+/**
+ * The work is rejected by the full mailboxes of the workers, even after its retries on the other workers.
+ * The work over the limit of the node is not sent to the workers at all
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class MailboxRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = -2381950725046342917L;
+
+    public MailboxRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package mykhalishyn.akka.cluster.demo.mailbox;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.ExtensionIdProvider;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backlog of the workers of the actor system, the amount of messages waiting in all {@link WorkerMailbox}es
+ * and the amount of the work rejected by the full ones
+ *
+ * @author dmihalishin@gmail.com
+ * @see Extension
+ */
+public class WorkerBacklog implements Extension {
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param system the actor system. Cannot be {@code null}
+     * @return the backlog of the workers of the actor system
+     */
+    public static WorkerBacklog get(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    public long get() {
+        return backlog.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    void increment() {
+        backlog.incrementAndGet();
+    }
+
+    void decrement() {
+        backlog.decrementAndGet();
+    }
+
+    void reject() {
+        rejected.incrementAndGet();
+    }
+
+    private static final class Provider extends AbstractExtensionId<WorkerBacklog> implements ExtensionIdProvider {
+        private static final Provider INSTANCE = new Provider();
+
+        @Override
+        public WorkerBacklog createExtension(final ExtendedActorSystem system) {
+            return new WorkerBacklog();
+        }
+
+        @Override
+        public Provider lookup() {
+            return INSTANCE;
+        }
+    }
+}
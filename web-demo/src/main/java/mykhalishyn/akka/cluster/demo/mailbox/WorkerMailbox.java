@@ -0,0 +1,134 @@
+package mykhalishyn.akka.cluster.demo.mailbox;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import akka.dispatch.UnboundedMessageQueueSemantics;
+import com.typesafe.config.Config;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import scala.Option;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mailbox of the workers that counts the waiting messages in the {@link WorkerBacklog}
+ * of the actor system, so the backlog of the node is known without walking the queues.
+ * <p>
+ * With the {@code mailbox-capacity} set the tasks over the capacity are not queued, the sender
+ * gets a {@link TaskRejected} right away and can send them elsewhere. The sender is never blocked
+ * and the other messages, e.g. the ones of the actor lifecycle, are always queued.
+ * <p>
+ * {@code mailbox-type = "mykhalishyn.akka.cluster.demo.mailbox.WorkerMailbox"}
+ * {@code mailbox-capacity = 1000}
+ *
+ * @author dmihalishin@gmail.com
+ * @see MailboxType
+ */
+public class WorkerMailbox implements MailboxType, ProducesMessageQueue<WorkerMailbox.WorkerMessageQueue> {
+
+    private static final String CAPACITY = "mailbox-capacity";
+
+    // maximum amount of the waiting messages, 0 - unbounded
+    private final int capacity;
+
+    public WorkerMailbox(final ActorSystem.Settings settings, final Config config) {
+        this.capacity = config.hasPath(CAPACITY) ? config.getInt(CAPACITY) : 0;
+    }
+
+    @Override
+    public MessageQueue create(final Option<ActorRef> owner, final Option<ActorSystem> system) {
+        if (system.isEmpty()) {
+            throw new IllegalStateException("WorkerMailbox requires an actor system");
+        }
+        return new WorkerMessageQueue(WorkerBacklog.get(system.get()), capacity);
+    }
+
+    /**
+     * Message queue of a single worker
+     */
+    public static class WorkerMessageQueue implements MessageQueue, UnboundedMessageQueueSemantics {
+
+        private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final WorkerBacklog backlog;
+
+        private final int capacity;
+
+        WorkerMessageQueue(final WorkerBacklog backlog, final int capacity) {
+            this.backlog = backlog;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void enqueue(final ActorRef receiver, final Envelope handle) {
+            if (size.incrementAndGet() > capacity && capacity > 0 && reject(receiver, handle)) {
+                size.decrementAndGet();
+                return;
+            }
+            backlog.increment();
+            queue.offer(handle);
+        }
+
+        @Override
+        public Envelope dequeue() {
+            final Envelope envelope = queue.poll();
+            if (envelope != null) {
+                size.decrementAndGet();
+                backlog.decrement();
+            }
+            return envelope;
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return size.get();
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
+            Envelope envelope;
+            while ((envelope = dequeue()) != null) {
+                deadLetters.enqueue(owner, envelope);
+            }
+        }
+
+        /**
+         * Tell the sender the work is rejected
+         *
+         * @return {@code true} if the message is the work and is rejected, {@code false} if it must be queued
+         */
+        private boolean reject(final ActorRef receiver, final Envelope handle) {
+            final Object message = handle.message();
+            final TaskRejected rejected;
+            if (message instanceof TaskBatch) {
+                final TaskBatch batch = (TaskBatch) message;
+                rejected = TaskRejected.newBuilder()
+                        .setFrom(batch.getFrom())
+                        .setAttempt(batch.getAttempt())
+                        .setCorrelationId(batch.getCorrelationId())
+                        .build();
+            } else if (message instanceof Task) {
+                rejected = TaskRejected.newBuilder().setFrom(((Task) message).getIndex()).build();
+            } else {
+                return false;
+            }
+            backlog.reject();
+            handle.sender().tell(rejected, receiver);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package mykhalishyn.akka.cluster.demo.pull;
+
+import akka.actor.ActorRef;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queue of the work of the node in the pull mode.
+ * <p>
+ * Keeps the batches nobody pulled yet and the batches pulled by the compute nodes and not answered yet,
+ * with the actors waiting for their results. The queue itself is used by a single coordinator actor,
+ * only the gauges of its size are read from the other threads. It needs no bound of its own,
+ * the tasks of the node are already limited by the adaptive limiter before they reach the queue.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class WorkQueue implements MeterBinder {
+
+    private final Deque<Entry> queued = new ArrayDeque<>();
+
+    // pulled batches by their correlation id
+    private final Map<Long, Entry> pulled = new HashMap<>();
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final AtomicInteger pulledTasks = new AtomicInteger();
+
+    private long nextId;
+
+    /**
+     * Queue the batch
+     *
+     * @param batch   the batch. Cannot be {@code null}
+     * @param replyTo the actor waiting for the result of the batch. Cannot be {@code null}
+     */
+    public void offer(final TaskBatch batch, final ActorRef replyTo) {
+        final Entry entry = new Entry(batch, replyTo);
+        queued.addLast(entry);
+        queuedTasks.addAndGet(entry.tasks);
+    }
+
+    /**
+     * Take the batches of at most the given amount of tasks, at least one batch if any is queued.
+     * The expired batches are dropped, nobody waits for them anymore.
+     *
+     * @param tasks amount of tasks wanted by the puller
+     * @param now   current epoch millis
+     * @return the batches stamped with their correlation ids
+     */
+    public List<TaskBatch> poll(final int tasks, final long now) {
+        final List<TaskBatch> batches = new ArrayList<>();
+        int taken = 0;
+        while (!queued.isEmpty() && (taken == 0 || taken + queued.peekFirst().tasks <= tasks)) {
+            final Entry entry = queued.pollFirst();
+            queuedTasks.addAndGet(-entry.tasks);
+            if (entry.isExpired(now)) {
+                continue;
+            }
+            final long id = ++nextId;
+            pulled.put(id, entry);
+            pulledTasks.addAndGet(entry.tasks);
+            batches.add(entry.batch.toBuilder().setCorrelationId(id).build());
+            taken += entry.tasks;
+        }
+        return batches;
+    }
+
+    /**
+     * The pulled batch is answered
+     *
+     * @param correlationId the correlation id of the batch
+     * @return the actor waiting for the result, {@code null} if the batch is unknown or already expired
+     */
+    public ActorRef complete(final long correlationId) {
+        final Entry entry = pulled.remove(correlationId);
+        if (entry == null) {
+            return null;
+        }
+        pulledTasks.addAndGet(-entry.tasks);
+        return entry.replyTo;
+    }
+
+    /**
+     * Forget the batches past their deadline. Nobody waits for the queued ones anymore,
+     * the node that pulled the others may be gone
+     *
+     * @param now current epoch millis
+     */
+    public void expire(final long now) {
+        final Iterator<Entry> waiting = queued.iterator();
+        while (waiting.hasNext()) {
+            final Entry entry = waiting.next();
+            if (entry.isExpired(now)) {
+                waiting.remove();
+                queuedTasks.addAndGet(-entry.tasks);
+            }
+        }
+        final Iterator<Entry> iterator = pulled.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (entry.isExpired(now)) {
+                iterator.remove();
+                pulledTasks.addAndGet(-entry.tasks);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return queued.isEmpty();
+    }
+
+    public int getQueuedTasks() {
+        return queuedTasks.get();
+    }
+
+    public int getPulledTasks() {
+        return pulledTasks.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("work.pull.queued", queuedTasks, AtomicInteger::get)
+                .description("Tasks waiting to be pulled by the compute nodes")
+                .register(registry);
+        Gauge.builder("work.pull.pulled", pulledTasks, AtomicInteger::get)
+                .description("Tasks pulled by the compute nodes and not answered yet")
+                .register(registry);
+    }
+
+    private static final class Entry {
+        private final TaskBatch batch;
+
+        private final ActorRef replyTo;
+
+        private final int tasks;
+
+        private Entry(final TaskBatch batch, final ActorRef replyTo) {
+            this.batch = batch;
+            this.replyTo = replyTo;
+            this.tasks = batch.getTo() - batch.getFrom();
+        }
+
+        private boolean isExpired(final long now) {
+            return batch.getDeadline() > 0 && now > batch.getDeadline();
+        }
+    }
+}
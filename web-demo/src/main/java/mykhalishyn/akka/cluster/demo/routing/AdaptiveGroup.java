@@ -0,0 +1,45 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.dispatch.Dispatchers;
+import akka.routing.GroupBase;
+import akka.routing.Router;
+
+/**
+ * Group of routees weighted by the load of their nodes
+ *
+ * @author dmihalishin@gmail.com
+ * @see AdaptiveRoutingLogic
+ */
+public class AdaptiveGroup extends GroupBase {
+    private static final long serialVersionUID = 2183940256620171846L;
+
+    private final Iterable<String> paths;
+
+    private final transient ClusterLoad load;
+
+    /**
+     * @param paths the paths of the routees. Cannot be {@code null}
+     * @param load  the load of the cluster. Cannot be {@code null}
+     */
+    public AdaptiveGroup(final Iterable<String> paths, final ClusterLoad load) {
+        this.paths = paths;
+        this.load = load;
+    }
+
+    @Override
+    public Iterable<String> getPaths(final ActorSystem system) {
+        return paths;
+    }
+
+    @Override
+    public Router createRouter(final ActorSystem system) {
+        return new Router(new AdaptiveRoutingLogic(load, Cluster.get(system).selfAddress()));
+    }
+
+    @Override
+    public String routerDispatcher() {
+        return Dispatchers.DefaultDispatcherId();
+    }
+}
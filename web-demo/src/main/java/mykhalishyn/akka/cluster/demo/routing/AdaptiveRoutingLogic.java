@@ -0,0 +1,108 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.actor.Address;
+import akka.routing.ActorRefRoutee;
+import akka.routing.ActorSelectionRoutee;
+import akka.routing.NoRoutee$;
+import akka.routing.Routee;
+import akka.routing.RoutingLogic;
+import scala.collection.immutable.IndexedSeq;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Routing logic that picks a routee at random, weighted by the {@link ClusterLoad capacity} of its node.
+ * <p>
+ * The weights are recomputed only when the routees or the cluster load change.
+ * A node with unknown load gets the average capacity of the known nodes,
+ * a node without any capacity left still gets a small share, so its recovery is noticed.
+ *
+ * @author dmihalishin@gmail.com
+ * @see RoutingLogic
+ */
+public class AdaptiveRoutingLogic implements RoutingLogic {
+
+    // share of the work of a node without any capacity left
+    private static final double MIN_WEIGHT = 0.01;
+
+    private final ClusterLoad load;
+
+    private final Address selfAddress;
+
+    private volatile Weights weights;
+
+    /**
+     * @param load        the load of the cluster. Cannot be {@code null}
+     * @param selfAddress the address of this node, used for the local routees. Cannot be {@code null}
+     */
+    public AdaptiveRoutingLogic(final ClusterLoad load, final Address selfAddress) {
+        this.load = load;
+        this.selfAddress = selfAddress;
+    }
+
+    @Override
+    public Routee select(final Object message, final IndexedSeq<Routee> routees) {
+        if (routees.isEmpty()) {
+            return NoRoutee$.MODULE$;
+        }
+        Weights current = weights;
+        final long version = load.getVersion();
+        if (current == null || current.routees != routees || current.version != version) {
+            current = new Weights(routees, version, cumulative(routees));
+            weights = current;
+        }
+        final double[] cumulative = current.cumulative;
+        final double point = ThreadLocalRandom.current().nextDouble() * cumulative[cumulative.length - 1];
+        final int index = Arrays.binarySearch(cumulative, point);
+        return routees.apply(Math.min(routees.size() - 1, index >= 0 ? index + 1 : -index - 1));
+    }
+
+    private double[] cumulative(final IndexedSeq<Routee> routees) {
+        final double[] capacities = new double[routees.size()];
+        double known = 0;
+        int knownCount = 0;
+        for (int i = 0; i < capacities.length; i++) {
+            capacities[i] = load.capacity(address(routees.apply(i)));
+            if (capacities[i] >= 0) {
+                known += capacities[i];
+                knownCount++;
+            }
+        }
+        final double unknown = knownCount == 0 ? 1 : known / knownCount;
+        final double[] cumulative = new double[capacities.length];
+        double total = 0;
+        for (int i = 0; i < capacities.length; i++) {
+            total += Math.max(MIN_WEIGHT, capacities[i] >= 0 ? capacities[i] : unknown);
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private Address address(final Routee routee) {
+        final Address address;
+        if (routee instanceof ActorSelectionRoutee) {
+            address = ((ActorSelectionRoutee) routee).selection().anchorPath().address();
+        } else if (routee instanceof ActorRefRoutee) {
+            address = ((ActorRefRoutee) routee).ref().path().address();
+        } else {
+            return selfAddress;
+        }
+        // local routees have no host in their address
+        return address.host().isDefined() ? address : selfAddress;
+    }
+
+    private static final class Weights {
+        private final IndexedSeq<Routee> routees;
+
+        private final long version;
+
+        private final double[] cumulative;
+
+        private Weights(final IndexedSeq<Routee> routees, final long version, final double[] cumulative) {
+            this.routees = routees;
+            this.version = version;
+            this.cumulative = cumulative;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.actor.Address;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load of the compute nodes of the cluster, as published by their {@code NodeLoadActor}s.
+ * <p>
+ * The capacity of a node is the average of its free CPU, free heap and the backlog capacity
+ * {@code 1 / (1 + backlog / cpus)}, multiplied by the amount of cores of the node, so a bigger pod
+ * gets more work than a smaller one with the same load. Every new sample is smoothed
+ * with the previous capacity of the node. The nodes not heard of for longer than the stale timeout
+ * have unknown capacity.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class ClusterLoad implements MeterBinder {
+
+    private final long staleMillis;
+
+    private final double smoothing;
+
+    // capacities by the address of the node
+    private final Map<String, Capacity> nodes = new ConcurrentHashMap<>();
+
+    // changed on every update, so the routing logic knows when to recompute its weights
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @param staleMillis millis after which the load of a silent node is unknown
+     * @param smoothing   weight of a new sample in the capacity, {@code 0 - 1}
+     */
+    public ClusterLoad(final long staleMillis, final double smoothing) {
+        this.staleMillis = staleMillis;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Update the capacity of the node with its load
+     *
+     * @param load the load of the node. Cannot be {@code null}
+     */
+    public void update(final NodeLoad load) {
+        final double sample = capacity(load);
+        nodes.compute(load.getAddress(), (address, previous) -> new Capacity(
+                previous == null ? sample : previous.value * (1 - smoothing) + sample * smoothing,
+                System.currentTimeMillis()));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Capacity of the node
+     *
+     * @param address the address of the node. Cannot be {@code null}
+     * @return the capacity, {@code -1} if the load of the node is unknown
+     */
+    public double capacity(final Address address) {
+        final Capacity capacity = nodes.get(address.toString());
+        if (capacity == null || System.currentTimeMillis() - capacity.updatedAt > staleMillis) {
+            return -1;
+        }
+        return capacity.value;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("work.router.nodes", nodes, Map::size)
+                .description("Compute nodes with a known load")
+                .register(registry);
+    }
+
+    /**
+     * Capacity of the node by a single sample of its load
+     */
+    static double capacity(final NodeLoad load) {
+        final int cpus = Math.max(1, load.getCpus());
+        final double cpu = 1 - clamp(load.getCpu());
+        final double heap = 1 - clamp(load.getHeap());
+        final double backlog = 1 / (1 + (double) load.getBacklog() / cpus);
+        return cpus * (cpu + heap + backlog) / 3;
+    }
+
+    private static double clamp(final double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+
+    private static final class Capacity {
+        private final double value;
+
+        private final long updatedAt;
+
+        private Capacity(final double value, final long updatedAt) {
+            this.value = value;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
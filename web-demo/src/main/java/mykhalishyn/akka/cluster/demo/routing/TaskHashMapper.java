@@ -0,0 +1,46 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.routing.ConsistentHashingRouter.ConsistentHashMapper;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hash key of the tasks for the consistent hashing routing.
+ * <p>
+ * A keyed batch is hashed by the key of the request, so all the work of the key lands on the same node
+ * and hits its result cache. A batch without a key is hashed by its computation and its range of tasks,
+ * so the chunks of a request spread across the nodes, while the same chunk of the same computation
+ * still lands on the node that has cached it. A request for the value of a computation is hashed
+ * by the computation. The attempt is a part of the key, so a retried or hedged batch likely goes to another
+ * node than its first attempt, but it is not guaranteed: the other key can land on the same node.
+ *
+ * @author dmihalishin@gmail.com
+ * @see ConsistentHashMapper
+ */
+public class TaskHashMapper implements ConsistentHashMapper {
+
+    @Override
+    public Object hashKey(final Object message) {
+        if (message instanceof TaskBatch) {
+            final TaskBatch batch = (TaskBatch) message;
+            return batch.getKey().isEmpty()
+                    ? key(batch.getComputation().toByteArray(), batch.getFrom(), batch.getTo(), batch.getAttempt())
+                    : key(batch.getKey().getBytes(StandardCharsets.UTF_8), 0, 0, batch.getAttempt());
+        } else if (message instanceof Task) {
+            return key(((Task) message).getComputation().toByteArray(), 0, 0, 0);
+        }
+        return null;
+    }
+
+    private static byte[] key(final byte[] prefix, final int from, final int to, final int attempt) {
+        return ByteBuffer.allocate(prefix.length + 3 * Integer.BYTES)
+                .put(prefix)
+                .putInt(from)
+                .putInt(to)
+                .putInt(attempt)
+                .array();
+    }
+}
@@ -0,0 +1,56 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.cluster.sharding.ShardRegion;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+
+import java.util.Objects;
+
+/**
+ * Entity id of the tasks for the sharding mode.
+ * <p>
+ * A keyed batch goes to the entity of its key, so all the work of the key runs on one worker entity,
+ * another attempt of it goes to the entity of the key and the attempt. A batch without a key goes to one
+ * of {@code maxShards} bucket entities, picked by the hash of its request, its first index and its attempt,
+ * so the requests spread across all the shards and the amount of the entities stays bounded.
+ * Another attempt of a batch likely runs on another node than the first one, it is not guaranteed:
+ * the other entity can be in a shard of the same node. A request for the value of a computation goes to the entity of the computation,
+ * where the value is likely cached. The entity of the computation is taken from its serialized bytes,
+ * so every node maps it to the same entity. The shard of the entity is taken from the hash code of the entity id.
+ *
+ * @author dmihalishin@gmail.com
+ * @see ShardRegion.HashCodeMessageExtractor
+ */
+public class TaskMessageExtractor extends ShardRegion.HashCodeMessageExtractor {
+
+    private final int buckets;
+
+    /**
+     * @param maxShards amount of the shards, about ten times the maximum amount of the compute nodes,
+     *                  also the amount of the bucket entities of the work without a key
+     */
+    public TaskMessageExtractor(final int maxShards) {
+        super(maxShards);
+        this.buckets = maxShards;
+    }
+
+    @Override
+    public String entityId(final Object message) {
+        if (message instanceof TaskBatch) {
+            final TaskBatch batch = (TaskBatch) message;
+            return batch.getKey().isEmpty()
+                    ? bucket(Objects.hash(batch.getRequestId(), batch.getFrom(), batch.getAttempt()))
+                    : batch.getAttempt() == 0 ? batch.getKey() : batch.getKey() + "#" + batch.getAttempt();
+        } else if (message instanceof Task) {
+            final Task task = (Task) message;
+            return task.getStreamValue()
+                    ? "value-" + Integer.toHexString(task.getComputation().toByteString().hashCode())
+                    : bucket(Objects.hash(task.getSentAt(), task.getIndex()));
+        }
+        return null;
+    }
+
+    private String bucket(final int hash) {
+        return "bucket-" + Math.floorMod(hash, buckets);
+    }
+}
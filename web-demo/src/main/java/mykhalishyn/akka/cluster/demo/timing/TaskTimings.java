@@ -0,0 +1,66 @@
+package mykhalishyn.akka.cluster.demo.timing;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency breakdown of the tasks answered to the node, taken from the timing fields of the {@link TaskResult}s:
+ * the time a task waited before it started, in the router, the queues and the mailbox of the worker,
+ * and the time of its computation.
+ *
+ * @author dmihalishin@gmail.com
+ * @see MeterBinder
+ */
+public class TaskTimings implements MeterBinder {
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder queueMicros = new LongAdder();
+
+    private final LongAdder computeMicros = new LongAdder();
+
+    /**
+     * Record the timing of a task
+     *
+     * @param result the result of the task. Cannot be {@code null}
+     */
+    public void record(final TaskResult result) {
+        count.increment();
+        queueMicros.add(result.getQueueMicros());
+        computeMicros.add(result.getComputeMicros());
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getQueueMicros() {
+        return queueMicros.sum();
+    }
+
+    public long getComputeMicros() {
+        return computeMicros.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see MeterBinder#bindTo(MeterRegistry)
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder("work.task.queue", this, TaskTimings::getCount, TaskTimings::getQueueMicros,
+                TimeUnit.MICROSECONDS)
+                .description("Time the tasks waited before they started")
+                .register(registry);
+        FunctionTimer.builder("work.task.compute", this, TaskTimings::getCount, TaskTimings::getComputeMicros,
+                TimeUnit.MICROSECONDS)
+                .description("Time of the task computations")
+                .register(registry);
+    }
+}
@@ -4,17 +4,22 @@ import mykhalishyn.akka.cluster.demo.config.RouterConfig;
 import mykhalishyn.akka.cluster.demo.config.TestConfig;
 import mykhalishyn.akka.cluster.demo.dto.WorkRequest;
 import mykhalishyn.akka.cluster.demo.dto.WorkResponse;
+import mykhalishyn.akka.cluster.demo.limit.AdaptiveConcurrencyLimiter;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
 
+import java.time.Duration;
+
 @RunWith(SpringRunner.class)
 @Import({RouterConfig.class, TestConfig.class})
 @WebFluxTest
@@ -23,6 +28,9 @@ public class WebDemoApplicationTests {
     @Autowired
     private WebTestClient webClient;
 
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
     @Test
     public void testWork() {
         this.webClient.post().uri("/work")
@@ -36,5 +44,156 @@ public class WebDemoApplicationTests {
                     Assert.assertEquals(" Finish task #0.", response.getStatuses().get(0));
                 });
     }
-}
 
+    @Test
+    public void testWorkBatches() {
+        final WorkRequest request = new WorkRequest();
+        request.setTasks(75);
+        this.webClient.mutate().responseTimeout(Duration.ofSeconds(30)).build()
+                .post().uri("/work")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(WorkResponse.class)
+                .value(response -> {
+                    Assert.assertEquals(75, response.getStatuses().size());
+                    for (int index = 0; index < 75; index++) {
+                        Assert.assertEquals(" Finish task #" + index + ".", response.getStatuses().get(index));
+                    }
+                });
+    }
+
+    @Test
+    public void testWorkOverLimit() {
+        final int busy = limiter.getLimit();
+        Assert.assertTrue(limiter.tryAcquire(busy));
+        try {
+            this.webClient.post().uri("/work")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromObject(new WorkRequest()))
+                    .exchange()
+                    .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        } finally {
+            limiter.release(busy);
+        }
+    }
+
+    @Test
+    public void testWorkStreamOverLimit() {
+        final int busy = limiter.getLimit();
+        Assert.assertTrue(limiter.tryAcquire(busy));
+        try {
+            // the streaming routes reject the work before they answer 200
+            for (MediaType mediaType : new MediaType[]{RouterConfig.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM}) {
+                this.webClient.post().uri("/work")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(mediaType)
+                        .body(BodyInserters.fromObject(new WorkRequest()))
+                        .exchange()
+                        .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                        .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+            }
+        } finally {
+            limiter.release(busy);
+        }
+    }
+
+    @Test
+    public void testWorkInvalidTasks() {
+        for (int tasks : new int[]{0, -1, limiter.getMaxLimit() + 1}) {
+            final WorkRequest request = new WorkRequest();
+            request.setTasks(tasks);
+            this.webClient.post().uri("/work")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromObject(request))
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+        Assert.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testWorkKernel() {
+        final WorkRequest request = new WorkRequest();
+        request.setKernel("prime-count");
+        request.setN(1000);
+        this.webClient.post().uri("/work")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(WorkResponse.class)
+                .value(response -> Assert.assertEquals(" Finish task #0.", response.getStatuses().get(0)));
+    }
+
+    @Test
+    public void testWorkUnknownKernel() {
+        final WorkRequest request = new WorkRequest();
+        request.setKernel("unknown");
+        this.webClient.post().uri("/work")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testWorkNdjson() {
+        final WorkRequest request = new WorkRequest();
+        request.setTasks(2);
+        this.webClient.post().uri("/work")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(RouterConfig.APPLICATION_NDJSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(RouterConfig.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .isEqualTo("{\"index\":0,\"status\":\" Finish task #0.\"}\n" +
+                        "{\"index\":1,\"status\":\" Finish task #1.\"}\n");
+    }
+
+    @Test
+    public void testWorkEventStream() {
+        this.webClient.post().uri("/work")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromObject(new WorkRequest()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> Assert.assertEquals("data:{\"index\":0,\"status\":\" Finish task #0.\"}", body.trim()));
+    }
+
+    @Test
+    public void testWorkValue() {
+        final WorkRequest request = new WorkRequest();
+        request.setN(30);
+        this.webClient.post().uri("/work/value")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.TEXT_PLAIN)
+                .expectBody(String.class)
+                .isEqualTo("265252859812191058636308480000000");
+    }
+
+    @Test
+    public void testWorkValueTakesSinglePermit() {
+        final WorkRequest request = new WorkRequest();
+        request.setN(30);
+        // the tasks of the request do not matter for a single value
+        request.setTasks(limiter.getMaxLimit() + 1);
+        this.webClient.post().uri("/work/value")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(request))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("265252859812191058636308480000000");
+        Assert.assertEquals(0, limiter.getInFlight());
+    }
+}
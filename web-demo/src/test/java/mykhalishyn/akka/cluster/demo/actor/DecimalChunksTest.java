@@ -0,0 +1,47 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link DecimalChunks}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class DecimalChunksTest {
+
+    @Test
+    public void chunks() {
+        Assert.assertEquals(Arrays.asList("0"), chunks(BigInteger.ZERO, 3));
+        Assert.assertEquals(Arrays.asList("999"), chunks(BigInteger.valueOf(999), 3));
+        Assert.assertEquals(Arrays.asList("1", "000"), chunks(BigInteger.valueOf(1000), 3));
+        // the zeros inside the value are kept
+        Assert.assertEquals(Arrays.asList("12", "000", "000", "045", "600"), chunks(new BigInteger("12000000045600"), 3));
+    }
+
+    @Test
+    public void largeValue() {
+        final BigInteger value = BigInteger.valueOf(7).pow(10000).add(BigInteger.TEN.pow(5000));
+        final StringBuilder digits = new StringBuilder();
+        final List<String> chunks = chunks(value, 100);
+        chunks.forEach(digits::append);
+        Assert.assertEquals(value.toString(), digits.toString());
+        chunks.subList(1, chunks.size()).forEach(chunk -> Assert.assertEquals(100, chunk.length()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negative() {
+        new DecimalChunks(BigInteger.ONE.negate(), 3);
+    }
+
+    private static List<String> chunks(final BigInteger value, final int digits) {
+        final List<String> chunks = new ArrayList<>();
+        new DecimalChunks(value, digits).forEachRemaining(chunk -> chunks.add(chunk.utf8String()));
+        return chunks;
+    }
+}
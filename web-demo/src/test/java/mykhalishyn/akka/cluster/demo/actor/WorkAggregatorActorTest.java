@@ -0,0 +1,172 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.testkit.TestProbe;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.dto.TaskStatus;
+import mykhalishyn.akka.cluster.demo.hedge.HedgingPolicy;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.limit.AdaptiveConcurrencyLimiter;
+import mykhalishyn.akka.cluster.demo.mailbox.MailboxRejectedException;
+import mykhalishyn.akka.cluster.demo.timing.TaskTimings;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link WorkAggregatorActor}
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorTest
+ */
+public class WorkAggregatorActorTest extends AbstractActorTest {
+
+    private static final TaskBatch TEMPLATE = TaskBatch.newBuilder()
+            .setComputation(KernelRegistry.DEFAULT_COMPUTATION)
+            .build();
+
+    private final TaskTimings timings = new TaskTimings();
+
+    @Test
+    public void deadline() throws Exception {
+        final TestProbe workers = new TestProbe(system);
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        final HedgingPolicy hedging = new HedgingPolicy(false, 95, 0.1, 100, 1000);
+        final Flux<TaskStatus> statuses = Flux.create(sink -> system.actorOf(WorkAggregatorActor.props(
+                workers.ref(), sink, TEMPLATE, 5, 2, 2, FiniteDuration.create(1, TimeUnit.SECONDS), limiter, hedging, 0, timings)));
+
+        final CompletableFuture<List<TaskStatus>> future = statuses
+                .collectSortedList(Comparator.comparingInt(TaskStatus::getIndex))
+                .toFuture();
+
+        // only the first chunk is answered, the second one is lost
+        final TaskBatch first = workers.expectMsgClass(TaskBatch.class);
+        Assert.assertTrue(first.getDeadline() > System.currentTimeMillis());
+        workers.expectMsgClass(TaskBatch.class);
+        workers.reply(TaskBatchResult.newBuilder().setFrom(first.getFrom())
+                .addResults(result(0, "node-1", Outcome.DONE))
+                .addResults(result(1, "node-1", Outcome.EXPIRED)).build());
+
+        final List<TaskStatus> result = future.get(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(5, result.size());
+        Assert.assertEquals("node-1 Finish task #0.", result.get(0).getStatus());
+        Assert.assertEquals("node-1 Task #1 expired.", result.get(1).getStatus());
+        for (int index = 2; index < 5; index++) {
+            Assert.assertEquals("Task #" + index + " failed", result.get(index).getStatus());
+        }
+        // the missed deadline shrinks the limit
+        Assert.assertEquals(50, limiter.getLimit());
+        Assert.assertEquals(2, timings.getCount());
+        Assert.assertEquals(2000, timings.getQueueMicros());
+        Assert.assertEquals(6000, timings.getComputeMicros());
+    }
+
+    @Test
+    public void hedge() throws Exception {
+        final TestProbe workers = new TestProbe(system);
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        // every chunk earns a full hedge, chunks slower than 1 ms are hedged
+        final HedgingPolicy hedging = new HedgingPolicy(true, 50, 1, 1, 10);
+        hedging.onSample(1_000_000, 1);
+        final Flux<TaskStatus> statuses = Flux.create(sink -> system.actorOf(WorkAggregatorActor.props(
+                workers.ref(), sink, TEMPLATE, 1, 1, 1, FiniteDuration.create(5, TimeUnit.SECONDS), limiter, hedging, 0, timings)));
+
+        final CompletableFuture<List<TaskStatus>> future = statuses.collectList().toFuture();
+
+        final TaskBatch primary = workers.expectMsgClass(TaskBatch.class);
+        Assert.assertEquals(0, primary.getAttempt());
+        final TaskBatch hedge = workers.expectMsgClass(TaskBatch.class);
+        Assert.assertEquals(1, hedge.getAttempt());
+        Assert.assertEquals(primary.getFrom(), hedge.getFrom());
+
+        // the hedge replies first, the late primary is ignored
+        workers.reply(TaskBatchResult.newBuilder().setFrom(0).setAttempt(1)
+                .addResults(result(0, "hedge", Outcome.DONE)).build());
+        workers.reply(TaskBatchResult.newBuilder().setFrom(0).addResults(result(0, "primary", Outcome.DONE)).build());
+
+        final List<TaskStatus> result = future.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals("hedge Finish task #0.", result.get(0).getStatus());
+        Assert.assertEquals(1, hedging.getFired());
+        Assert.assertEquals(1, hedging.getWon());
+    }
+
+    @Test
+    public void rejected() throws Exception {
+        final TestProbe workers = new TestProbe(system);
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        final HedgingPolicy hedging = new HedgingPolicy(false, 95, 0.1, 100, 1000);
+        final Flux<TaskStatus> statuses = Flux.create(sink -> system.actorOf(WorkAggregatorActor.props(
+                workers.ref(), sink, TEMPLATE, 2, 2, 1, FiniteDuration.create(5, TimeUnit.SECONDS), limiter, hedging, 1, timings)));
+
+        final CompletableFuture<List<TaskStatus>> future = statuses.collectList().toFuture();
+
+        // the first rejection is retried after the backoff with another attempt, the second one rejects the request
+        final TaskBatch first = workers.expectMsgClass(TaskBatch.class);
+        workers.reply(TaskRejected.newBuilder().setFrom(first.getFrom()).setAttempt(first.getAttempt()).build());
+        final TaskBatch retry = workers.expectMsgClass(TaskBatch.class);
+        Assert.assertEquals(first.getFrom(), retry.getFrom());
+        Assert.assertEquals(first.getTo(), retry.getTo());
+        Assert.assertNotEquals(first.getAttempt(), retry.getAttempt());
+        workers.reply(TaskRejected.newBuilder().setFrom(retry.getFrom()).setAttempt(retry.getAttempt()).build());
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("The rejected work must fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof MailboxRejectedException);
+        }
+        Assert.assertEquals(50, limiter.getLimit());
+    }
+
+    @Test
+    public void failure() throws Exception {
+        final TestProbe workers = new TestProbe(system);
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        final HedgingPolicy hedging = new HedgingPolicy(false, 95, 0.1, 100, 1000);
+        final TaskTimings failing = new TaskTimings() {
+            @Override
+            public void record(final TaskResult result) {
+                throw new IllegalStateException("Malformed result");
+            }
+        };
+        final Flux<TaskStatus> statuses = Flux.create(sink -> system.actorOf(WorkAggregatorActor.props(
+                workers.ref(), sink, TEMPLATE, 2, 1, 1, FiniteDuration.create(5, TimeUnit.SECONDS), limiter, hedging, 0, failing)));
+
+        final CompletableFuture<List<TaskStatus>> future = statuses.collectList().toFuture();
+
+        final TaskBatch first = workers.expectMsgClass(TaskBatch.class);
+        workers.reply(TaskBatchResult.newBuilder().setFrom(first.getFrom())
+                .addResults(result(0, "node-1", Outcome.DONE)).build());
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("The failed work must fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // the aggregator is not restarted, the work is not dispatched again
+        workers.expectNoMessage(FiniteDuration.create(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static TaskResult result(final int index, final String node, final Outcome outcome) {
+        return TaskResult.newBuilder()
+                .setIndex(index)
+                .setNode(node)
+                .setOutcome(outcome)
+                .setQueueMicros(1000)
+                .setComputeMicros(3000)
+                .build();
+    }
+}
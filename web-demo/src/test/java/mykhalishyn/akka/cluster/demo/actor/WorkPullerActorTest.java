@@ -0,0 +1,82 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.ActorRef;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.testkit.TestProbe;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.PullWork;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskResult;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkBatches;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.WorkReady;
+import mykhalishyn.akka.cluster.demo.pull.WorkQueue;
+import org.junit.Assert;
+import org.junit.Test;
+import scala.concurrent.duration.FiniteDuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link WorkPullerActor} and {@link WorkCoordinatorActor}
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorTest
+ */
+public class WorkPullerActorTest extends AbstractActorTest {
+
+    private static final FiniteDuration INTERVAL = FiniteDuration.create(1, TimeUnit.HOURS);
+
+    @Test
+    public void pullWithinCapacity() {
+        final TestProbe workers = new TestProbe(system);
+        final TestProbe mediator = new TestProbe(system);
+        final TestProbe coordinator = new TestProbe(system);
+        final ActorRef puller = system.actorOf(WorkPullerActor.props(workers.ref(), 150, mediator.ref(), INTERVAL));
+        mediator.expectMsgClass(DistributedPubSubMediator.Subscribe.class);
+
+        puller.tell(WorkReady.getDefaultInstance(), coordinator.ref());
+        Assert.assertEquals(150, coordinator.expectMsgClass(PullWork.class).getTasks());
+        // no second pull while the first one is not answered
+        puller.tell(WorkReady.getDefaultInstance(), coordinator.ref());
+        coordinator.reply(WorkBatches.newBuilder().addBatches(batch(0, 100, 11)).build());
+
+        final TaskBatch pulled = workers.expectMsgClass(TaskBatch.class);
+        Assert.assertEquals(0, pulled.getFrom());
+        // the coordinator may have more work for the free capacity
+        Assert.assertEquals(50, coordinator.expectMsgClass(PullWork.class).getTasks());
+        coordinator.reply(WorkBatches.getDefaultInstance());
+        workers.expectNoMessage();
+
+        // the result goes back with the id of the coordinator, the drained coordinator is not pulled
+        workers.reply(TaskBatchResult.newBuilder().setFrom(0).setCorrelationId(pulled.getCorrelationId()).build());
+        Assert.assertEquals(11, coordinator.expectMsgClass(TaskBatchResult.class).getCorrelationId());
+        coordinator.expectNoMessage();
+        // until it announces work again
+        puller.tell(WorkReady.getDefaultInstance(), coordinator.ref());
+        Assert.assertEquals(150, coordinator.expectMsgClass(PullWork.class).getTasks());
+    }
+
+    @Test
+    public void coordinate() {
+        final TestProbe mediator = new TestProbe(system);
+        final TestProbe aggregator = new TestProbe(system);
+        final TestProbe puller = new TestProbe(system);
+        final ActorRef coordinator = system.actorOf(WorkCoordinatorActor.props(new WorkQueue(), mediator.ref(), INTERVAL));
+
+        coordinator.tell(batch(0, 10, 0), aggregator.ref());
+        Assert.assertEquals(WorkCoordinatorActor.TOPIC,
+                mediator.expectMsgClass(DistributedPubSubMediator.Publish.class).topic());
+
+        coordinator.tell(PullWork.newBuilder().setTasks(100).build(), puller.ref());
+        final WorkBatches batches = puller.expectMsgClass(WorkBatches.class);
+        Assert.assertEquals(1, batches.getBatchesCount());
+
+        puller.reply(TaskBatchResult.newBuilder().setFrom(0).addResults(TaskResult.newBuilder().setIndex(0))
+                .setCorrelationId(batches.getBatches(0).getCorrelationId()).build());
+        Assert.assertEquals(1, aggregator.expectMsgClass(TaskBatchResult.class).getResultsCount());
+    }
+
+    private static TaskBatch batch(final int from, final int to, final long correlationId) {
+        return TaskBatch.newBuilder().setFrom(from).setTo(to).setCorrelationId(correlationId).build();
+    }
+}
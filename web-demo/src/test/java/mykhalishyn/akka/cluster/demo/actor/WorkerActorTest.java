@@ -0,0 +1,120 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import mykhalishyn.akka.cluster.demo.kernel.FibonacciKernel;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.kernel.PrimeCountKernel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link WorkerActor}
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorTest
+ */
+public class WorkerActorTest extends AbstractActorTest {
+
+    private static final KernelRegistry KERNELS = new KernelRegistry(
+            new FactorialKernel(0, 0), new FibonacciKernel(), new PrimeCountKernel(), 1000000);
+
+    @Test
+    public void processBatch() {
+        new TestKit(system) {{
+            final ActorRef subject = system.actorOf(Props.create(WorkerActor.class, new ResultCache(1024 * 1024), KERNELS));
+
+            subject.tell(TaskBatch.newBuilder().setFrom(3).setTo(5).setCorrelationId(7).build(), getRef());
+
+            final TaskBatchResult result = expectMsgClass(Duration.ofSeconds(5), TaskBatchResult.class);
+            Assert.assertEquals(3, result.getFrom());
+            Assert.assertEquals(7, result.getCorrelationId());
+            Assert.assertEquals(3, result.getResults(0).getIndex());
+            Assert.assertEquals(Outcome.DONE, result.getResults(0).getOutcome());
+            Assert.assertEquals(4, result.getResults(1).getIndex());
+            Assert.assertEquals(Outcome.DONE, result.getResults(1).getOutcome());
+        }};
+    }
+
+    @Test
+    public void streamValue() throws Exception {
+        new TestKit(system) {{
+            final ActorRef subject = system.actorOf(Props.create(WorkerActor.class, new ResultCache(1024 * 1024), KERNELS));
+
+            subject.tell(Task.newBuilder().setStreamValue(true).build(), getRef());
+
+            @SuppressWarnings("unchecked")
+            final SourceRef<ByteString> value = expectMsgClass(Duration.ofSeconds(5), SourceRef.class);
+            final List<ByteString> chunks = value.getSource()
+                    .runWith(Sink.seq(), ActorMaterializer.create(system))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            // the 35660 digits of the factorial of 10000, the first chunk has the rest of the digits
+            Assert.assertEquals(2, chunks.size());
+            Assert.assertEquals(35660 - WorkerActor.CHUNK_BYTES, chunks.get(0).size());
+            Assert.assertEquals(WorkerActor.CHUNK_BYTES, chunks.get(1).size());
+            Assert.assertEquals(KERNELS.compute(KernelRegistry.DEFAULT_COMPUTATION).toString(),
+                    chunks.get(0).concat(chunks.get(1)).utf8String());
+        }};
+    }
+
+    @Test
+    public void cacheResult() {
+        new TestKit(system) {{
+            final ResultCache cache = new ResultCache(1024 * 1024);
+            final ActorRef subject = system.actorOf(Props.create(WorkerActor.class, cache, KERNELS));
+
+            subject.tell(TaskBatch.newBuilder().setFrom(0).setTo(3).build(), getRef());
+
+            expectMsgClass(Duration.ofSeconds(5), TaskBatchResult.class);
+            Assert.assertEquals(1, cache.getMisses());
+            Assert.assertEquals(2, cache.getHits());
+        }};
+    }
+
+    @Test
+    public void computation() {
+        new TestKit(system) {{
+            final ResultCache cache = new ResultCache(1024 * 1024);
+            final ActorRef subject = system.actorOf(Props.create(WorkerActor.class, cache, KERNELS));
+
+            subject.tell(TaskBatch.newBuilder().setFrom(0).setTo(1)
+                    .setComputation(KERNELS.computation(KernelRegistry.FIBONACCI, 100)).build(), getRef());
+
+            final TaskBatchResult result = expectMsgClass(Duration.ofSeconds(5), TaskBatchResult.class);
+            Assert.assertEquals(Outcome.DONE, result.getResults(0).getOutcome());
+            Assert.assertEquals(new BigInteger("354224848179261915075"),
+                    cache.get(KERNELS.computation(KernelRegistry.FIBONACCI, 100), () -> BigInteger.ZERO));
+        }};
+    }
+
+    @Test
+    public void skipExpired() {
+        new TestKit(system) {{
+            final ActorRef subject = system.actorOf(Props.create(WorkerActor.class, new ResultCache(1024 * 1024), KERNELS));
+
+            subject.tell(TaskBatch.newBuilder().setFrom(0).setTo(2)
+                    .setDeadline(System.currentTimeMillis() - 1).build(), getRef());
+
+            final TaskBatchResult result = expectMsgClass(Duration.ofSeconds(5), TaskBatchResult.class);
+            Assert.assertEquals(Outcome.EXPIRED, result.getResults(0).getOutcome());
+            Assert.assertEquals(Outcome.EXPIRED, result.getResults(1).getOutcome());
+            Assert.assertEquals(0, result.getResults(1).getComputeMicros());
+        }};
+    }
+}
@@ -0,0 +1,48 @@
+package mykhalishyn.akka.cluster.demo.actor;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.testkit.javadsl.TestKit;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Outcome;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatchResult;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import mykhalishyn.akka.cluster.demo.kernel.FibonacciKernel;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.kernel.PrimeCountKernel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+
+/**
+ * Tests for {@link WorkerEntityActor}
+ *
+ * @author dmihalishin@gmail.com
+ * @see AbstractActorTest
+ */
+public class WorkerEntityActorTest extends AbstractActorTest {
+
+    private static final KernelRegistry KERNELS = new KernelRegistry(
+            new FactorialKernel(0, 0), new FibonacciKernel(), new PrimeCountKernel(), 1000000);
+
+    @Test
+    public void passivateIdle() {
+        new TestKit(system) {{
+            // the test kit plays the shard, the parent of the entity
+            final ActorRef entity = childActorOf(Props.create(WorkerEntityActor.class,
+                    new ResultCache(1024 * 1024), KERNELS, 200L), "customer-42");
+
+            entity.tell(TaskBatch.newBuilder().setFrom(0).setTo(1).setKey("customer-42").build(), getRef());
+            final TaskBatchResult result = expectMsgClass(Duration.ofSeconds(5), TaskBatchResult.class);
+            Assert.assertEquals(Outcome.DONE, result.getResults(0).getOutcome());
+
+            final ShardRegion.Passivate passivate = expectMsgClass(Duration.ofSeconds(5), ShardRegion.Passivate.class);
+            Assert.assertEquals(PoisonPill.getInstance(), passivate.stopMessage());
+            Assert.assertEquals(entity, getLastSender());
+        }};
+    }
+}
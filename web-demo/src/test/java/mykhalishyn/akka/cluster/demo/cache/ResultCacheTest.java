@@ -0,0 +1,54 @@
+package mykhalishyn.akka.cluster.demo.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+/**
+ * Tests for {@link ResultCache}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class ResultCacheTest {
+
+    @Test
+    public void hit() {
+        final ResultCache cache = new ResultCache(1024);
+        Assert.assertEquals(BigInteger.ONE, cache.get("one", () -> BigInteger.ONE));
+        Assert.assertEquals(BigInteger.ONE, cache.get("one", () -> BigInteger.TEN));
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        // room for two small results
+        final ResultCache cache = new ResultCache(300);
+        cache.get("one", () -> BigInteger.ONE);
+        cache.get("two", () -> BigInteger.valueOf(2));
+        cache.get("one", () -> BigInteger.ONE);
+        cache.get("three", () -> BigInteger.valueOf(3));
+
+        Assert.assertEquals(1, cache.getEvictions());
+        // "two" was the least recently used one
+        Assert.assertEquals(BigInteger.ONE, cache.get("one", () -> BigInteger.ZERO));
+        Assert.assertEquals(BigInteger.ZERO, cache.get("two", () -> BigInteger.ZERO));
+        Assert.assertTrue(cache.getSizeBytes() <= 300);
+    }
+
+    @Test
+    public void tooBig() {
+        final ResultCache cache = new ResultCache(200);
+        cache.get("big", () -> BigInteger.ONE.shiftLeft(8 * 1024));
+        Assert.assertEquals(0, cache.getSizeBytes());
+    }
+
+    @Test
+    public void disabled() {
+        final ResultCache cache = new ResultCache(0);
+        cache.get("one", () -> BigInteger.ONE);
+        Assert.assertEquals(BigInteger.TEN, cache.get("one", () -> BigInteger.TEN));
+        Assert.assertEquals(0, cache.getHits());
+    }
+}
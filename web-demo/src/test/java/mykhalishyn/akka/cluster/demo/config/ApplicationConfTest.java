@@ -0,0 +1,71 @@
+package mykhalishyn.akka.cluster.demo.config;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.google.protobuf.Message;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto;
+import mykhalishyn.akka.cluster.demo.actor.WorkAggregatorActor;
+import mykhalishyn.akka.cluster.spring.common.config.AkkaConfig;
+import mykhalishyn.akka.cluster.spring.common.serialization.ProtobufSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * Tests for the akka configuration of the application
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class ApplicationConfTest {
+
+    @Test
+    public void sizedByContainerCpus() {
+        final Config config = ConfigFactory.load(ConfigFactory.defaultApplication()
+                .withFallback(ConfigFactory.parseMap(Collections.singletonMap(AkkaConfig.CONTAINER_CPUS, 3))));
+
+        Assert.assertEquals(3, config.getInt("worker-dispatcher.thread-pool-executor.fixed-pool-size"));
+        Assert.assertEquals(3, config.getInt("akka.actor.deployment.\"/workerActor\".nr-of-instances"));
+        Assert.assertEquals("cluster-dispatcher", config.getString("akka.cluster.use-dispatcher"));
+    }
+
+    @Test
+    public void artery() {
+        final Config config = ConfigFactory.load(ConfigFactory.parseResources("artery.conf")
+                .withFallback(ConfigFactory.parseMap(Collections.singletonMap(AkkaConfig.CONTAINER_CPUS, 3))));
+
+        Assert.assertTrue(config.getBoolean("akka.remote.artery.enabled"));
+        Assert.assertEquals("tcp", config.getString("akka.remote.artery.transport"));
+        Assert.assertEquals(config.getInt("akka.remote.netty.tcp.port"), config.getInt("akka.remote.artery.canonical.port"));
+        Assert.assertTrue(config.getStringList("akka.remote.artery.large-message-destinations")
+                .contains("/user/*/" + WorkAggregatorActor.RESULTS));
+        // the rest of the application is the same
+        Assert.assertEquals(3, config.getInt("akka.actor.deployment.\"/workerActor\".nr-of-instances"));
+    }
+
+    @Test
+    public void everyMessageRegistered() {
+        final Config config = ConfigFactory.load(ConfigFactory.defaultApplication()
+                .withFallback(ConfigFactory.parseMap(Collections.singletonMap(AkkaConfig.CONTAINER_CPUS, 3))));
+        final ProtobufSerializer serializer = new ProtobufSerializer(
+                config.getConfig(ProtobufSerializer.MANIFESTS), getClass().getClassLoader());
+
+        // every message but the parts of the computation travels between the nodes
+        for (final Class<?> type : MessageProto.class.getDeclaredClasses()) {
+            if (Message.class.isAssignableFrom(type)
+                    && !type.getSimpleName().matches("Factorial|Fibonacci|PrimeCount|Computation")) {
+                Assert.assertNotNull(type.getName(), serializer.manifest(defaultInstance(type)));
+            }
+        }
+        Assert.assertEquals("protobuf", config.getString(
+                "akka.actor.serialization-bindings.\"com.google.protobuf.GeneratedMessageV3\""));
+    }
+
+    private static Object defaultInstance(final Class<?> type) {
+        try {
+            return type.getMethod("getDefaultInstance").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
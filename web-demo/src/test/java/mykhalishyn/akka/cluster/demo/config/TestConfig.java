@@ -5,15 +5,36 @@ import akka.actor.ActorSystem;
 import akka.actor.Props;
 import com.typesafe.config.ConfigFactory;
 import mykhalishyn.akka.cluster.demo.actor.WorkerActor;
+import mykhalishyn.akka.cluster.demo.cache.ResultCache;
+import mykhalishyn.akka.cluster.demo.kernel.FactorialKernel;
+import mykhalishyn.akka.cluster.demo.kernel.FibonacciKernel;
+import mykhalishyn.akka.cluster.demo.kernel.KernelRegistry;
+import mykhalishyn.akka.cluster.demo.kernel.PrimeCountKernel;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class TestConfig {
 
+    @Bean
+    public ResultCache resultCache() {
+        return new ResultCache(1024 * 1024);
+    }
+
+    @Bean
+    public KernelRegistry kernelRegistry() {
+        return new KernelRegistry(new FactorialKernel(0, 0), new FibonacciKernel(), new PrimeCountKernel(), 1000000);
+    }
+
     @Bean("workRouterRef")
-    public ActorRef workerActor(final ActorSystem system) {
-        return system.actorOf(Props.create(WorkerActor.class));
+    public ActorRef workerActor(final ActorSystem system, final ResultCache resultCache, final KernelRegistry kernelRegistry) {
+        return system.actorOf(Props.create(WorkerActor.class, resultCache, kernelRegistry));
+    }
+
+    @Bean("resultRouterRef")
+    public ActorRef resultRouter(@Qualifier("workRouterRef") final ActorRef workRouter) {
+        return workRouter;
     }
 
     @Bean
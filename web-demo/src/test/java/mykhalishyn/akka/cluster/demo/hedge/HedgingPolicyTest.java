@@ -0,0 +1,47 @@
+package mykhalishyn.akka.cluster.demo.hedge;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HedgingPolicy}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class HedgingPolicyTest {
+
+    @Test
+    public void delay() {
+        final HedgingPolicy hedging = new HedgingPolicy(true, 90, 0.1, 10, 100);
+        for (int i = 1; i <= 9; i++) {
+            hedging.onSample(i * 1000, 1);
+        }
+        // not enough samples yet
+        Assert.assertEquals(-1, hedging.hedgeDelay(1));
+
+        hedging.onSample(10_000, 1);
+        Assert.assertEquals(9_000, hedging.hedgeDelay(1));
+        // the delay is per task, scaled with the chunk
+        Assert.assertEquals(18_000, hedging.hedgeDelay(2));
+    }
+
+    @Test
+    public void budget() {
+        final HedgingPolicy hedging = new HedgingPolicy(true, 95, 0.1, 1, 100);
+        Assert.assertFalse(hedging.tryHedge());
+        // a hedge is earned by a bit more than 10 first attempts, the budget is not exact in doubles
+        for (int i = 0; i < 11; i++) {
+            hedging.onPrimary();
+        }
+        Assert.assertTrue(hedging.tryHedge());
+        Assert.assertFalse(hedging.tryHedge());
+        Assert.assertEquals(1, hedging.getFired());
+    }
+
+    @Test
+    public void disabled() {
+        final HedgingPolicy hedging = new HedgingPolicy(false, 95, 0.1, 1, 100);
+        hedging.onSample(1000, 1);
+        Assert.assertEquals(-1, hedging.hedgeDelay(1));
+    }
+}
@@ -0,0 +1,46 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+
+/**
+ * Tests for {@link FactorialKernel}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class FactorialKernelTest {
+
+    @Test
+    public void small() {
+        try (FactorialKernel kernel = new FactorialKernel(0, 0)) {
+            Assert.assertEquals(BigInteger.ONE, kernel.factorial(0));
+            Assert.assertEquals(BigInteger.ONE, kernel.factorial(1));
+            Assert.assertEquals(BigInteger.valueOf(120), kernel.factorial(5));
+            Assert.assertEquals(new BigInteger("2432902008176640000"), kernel.factorial(20));
+        }
+    }
+
+    @Test
+    public void sequential() {
+        try (FactorialKernel kernel = new FactorialKernel(0, 0)) {
+            Assert.assertEquals(fold(10000), kernel.factorial(10000));
+        }
+    }
+
+    @Test
+    public void parallel() {
+        try (FactorialKernel kernel = new FactorialKernel(2, 1000)) {
+            Assert.assertEquals(fold(10000), kernel.factorial(10000));
+        }
+    }
+
+    private static BigInteger fold(final int n) {
+        return LongStream.rangeClosed(2, n)
+                .boxed()
+                .map(BigInteger::valueOf)
+                .reduce(BigInteger.ONE, BigInteger::multiply);
+    }
+}
@@ -0,0 +1,50 @@
+package mykhalishyn.akka.cluster.demo.kernel;
+
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+/**
+ * Tests for {@link KernelRegistry}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class KernelRegistryTest {
+
+    private final KernelRegistry kernels = new KernelRegistry(
+            new FactorialKernel(0, 0), new FibonacciKernel(), new PrimeCountKernel(), 100000);
+
+    @Test
+    public void compute() {
+        Assert.assertEquals(BigInteger.valueOf(120),
+                kernels.compute(kernels.computation(KernelRegistry.FACTORIAL, 5)));
+        Assert.assertEquals(BigInteger.valueOf(55),
+                kernels.compute(kernels.computation(KernelRegistry.FIBONACCI, 10)));
+        Assert.assertEquals(BigInteger.valueOf(168),
+                kernels.compute(kernels.computation(KernelRegistry.PRIME_COUNT, 1000)));
+        Assert.assertEquals(BigInteger.valueOf(9592),
+                kernels.compute(kernels.computation(KernelRegistry.PRIME_COUNT, 100000)));
+    }
+
+    @Test
+    public void defaults() {
+        Assert.assertEquals(KernelRegistry.DEFAULT_COMPUTATION, kernels.computation(null, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownKernel() {
+        kernels.computation("unknown", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parameterOutOfRange() {
+        kernels.computation(KernelRegistry.FACTORIAL, 100001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void kernelNotSet() {
+        kernels.compute(Computation.getDefaultInstance());
+    }
+}
@@ -0,0 +1,79 @@
+package mykhalishyn.akka.cluster.demo.limit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void admission() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.5);
+        // idle node admits a request bigger than the limit
+        Assert.assertTrue(limiter.tryAcquire(20));
+        Assert.assertFalse(limiter.tryAcquire(1));
+        limiter.release(20);
+
+        Assert.assertTrue(limiter.tryAcquire(6));
+        Assert.assertTrue(limiter.tryAcquire(4));
+        Assert.assertFalse(limiter.tryAcquire(1));
+        limiter.release(4);
+        Assert.assertTrue(limiter.tryAcquire(1));
+        Assert.assertEquals(7, limiter.getInFlight());
+    }
+
+    @Test
+    public void oversized() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.5);
+        // an idle node admits up to the maximum limit
+        Assert.assertTrue(limiter.tryAcquire(100));
+        Assert.assertEquals(100, limiter.getInFlight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oversizedAcquire() {
+        new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.5).tryAcquire(101);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyAcquire() {
+        new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, 0.5).tryAcquire(0);
+    }
+
+    @Test
+    public void adaptation() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        Assert.assertTrue(limiter.tryAcquire(100));
+
+        // stable latency under load grows the limit
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(1_000_000, 1);
+        }
+        final int grown = limiter.getLimit();
+        Assert.assertTrue(grown > 100);
+
+        // latency going up shrinks the limit
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(10_000_000, 1);
+        }
+        Assert.assertTrue(limiter.getLimit() < grown);
+
+        // missed deadline applies the backoff
+        final int limit = limiter.getLimit();
+        limiter.onDrop();
+        Assert.assertEquals(Math.max(10, limit / 2), limiter.getLimit(), 1);
+    }
+
+    @Test
+    public void idle() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 1.5, 0.5);
+        // without load the samples say nothing about the limit
+        limiter.onSample(1_000_000, 1);
+        limiter.onSample(10_000_000, 1);
+        Assert.assertEquals(100, limiter.getLimit());
+    }
+}
@@ -0,0 +1,75 @@
+package mykhalishyn.akka.cluster.demo.mailbox;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.dispatch.Envelope;
+import akka.dispatch.MessageQueue;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskRejected;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scala.Option;
+
+/**
+ * Tests for {@link WorkerMailbox}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class WorkerMailboxTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setup() {
+        system = ActorSystem.create("WorkerMailboxTest", ConfigFactory.parseString("akka.actor.provider = local"));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void rejectOverCapacity() {
+        final MessageQueue queue = new WorkerMailbox(system.settings(), ConfigFactory.parseString("mailbox-capacity = 2"))
+                .create(Option.empty(), Option.apply(system));
+        final TestProbe sender = new TestProbe(system);
+        final TestProbe worker = new TestProbe(system);
+
+        queue.enqueue(worker.ref(), envelope(batch(0), sender.ref()));
+        queue.enqueue(worker.ref(), envelope(batch(10), sender.ref()));
+        queue.enqueue(worker.ref(), envelope(batch(20), sender.ref()));
+
+        final TaskRejected rejected = sender.expectMsgClass(TaskRejected.class);
+        Assert.assertEquals(20, rejected.getFrom());
+        Assert.assertEquals(7, rejected.getCorrelationId());
+        Assert.assertEquals(worker.ref(), sender.lastSender());
+        Assert.assertEquals(2, queue.numberOfMessages());
+        Assert.assertEquals(1, WorkerBacklog.get(system).getRejected());
+
+        // the other messages are always queued
+        queue.enqueue(worker.ref(), envelope(PoisonPill.getInstance(), sender.ref()));
+        Assert.assertEquals(3, queue.numberOfMessages());
+
+        // the freed capacity takes the work again
+        queue.dequeue();
+        queue.dequeue();
+        queue.enqueue(worker.ref(), envelope(batch(30), sender.ref()));
+        Assert.assertEquals(2, queue.numberOfMessages());
+        sender.expectNoMessage();
+    }
+
+    private static TaskBatch batch(final int from) {
+        return TaskBatch.newBuilder().setFrom(from).setTo(from + 10).setCorrelationId(7).build();
+    }
+
+    private static Envelope envelope(final Object message, final ActorRef sender) {
+        return Envelope.apply(message, sender, system);
+    }
+}
@@ -0,0 +1,81 @@
+package mykhalishyn.akka.cluster.demo.pull;
+
+import akka.actor.ActorRef;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Tests for {@link WorkQueue}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class WorkQueueTest {
+
+    @Test
+    public void pull() {
+        final WorkQueue queue = new WorkQueue();
+        queue.offer(batch(0, 100, 0), ActorRef.noSender());
+        queue.offer(batch(100, 200, 0), ActorRef.noSender());
+        queue.offer(batch(200, 250, 0), ActorRef.noSender());
+        Assert.assertEquals(250, queue.getQueuedTasks());
+
+        // at most the wanted tasks, but at least one batch
+        final List<TaskBatch> first = queue.poll(150, 0);
+        Assert.assertEquals(1, first.size());
+        Assert.assertEquals(0, first.get(0).getFrom());
+        final List<TaskBatch> second = queue.poll(10, 0);
+        Assert.assertEquals(1, second.size());
+        Assert.assertNotEquals(first.get(0).getCorrelationId(), second.get(0).getCorrelationId());
+        Assert.assertEquals(50, queue.getQueuedTasks());
+        Assert.assertEquals(200, queue.getPulledTasks());
+
+        Assert.assertNull(queue.complete(first.get(0).getCorrelationId()));
+        Assert.assertEquals(100, queue.getPulledTasks());
+        Assert.assertNull(queue.complete(first.get(0).getCorrelationId()));
+        Assert.assertEquals(100, queue.getPulledTasks());
+    }
+
+    @Test
+    public void expire() {
+        final WorkQueue queue = new WorkQueue();
+        queue.offer(batch(0, 10, 1000), ActorRef.noSender());
+        queue.offer(batch(10, 20, 3000), ActorRef.noSender());
+        queue.offer(batch(20, 30, 0), ActorRef.noSender());
+
+        // the expired batch is never pulled
+        final List<TaskBatch> pulled = queue.poll(100, 2000);
+        Assert.assertEquals(2, pulled.size());
+        Assert.assertEquals(10, pulled.get(0).getFrom());
+        Assert.assertTrue(queue.isEmpty());
+
+        // the pulled batch past its deadline is forgotten, the one without a deadline is kept
+        queue.expire(4000);
+        Assert.assertEquals(10, queue.getPulledTasks());
+    }
+
+    @Test
+    public void expireQueued() {
+        final WorkQueue queue = new WorkQueue();
+        queue.offer(batch(0, 10, 1000), ActorRef.noSender());
+        queue.offer(batch(10, 20, 0), ActorRef.noSender());
+
+        // the queued batch past its deadline is dropped without a poll
+        queue.expire(2000);
+        Assert.assertEquals(10, queue.getQueuedTasks());
+        queue.expire(Long.MAX_VALUE);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertEquals(10, queue.poll(100, 2000).get(0).getFrom());
+
+        queue.offer(batch(20, 30, 1000), ActorRef.noSender());
+        queue.expire(2000);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(0, queue.getQueuedTasks());
+    }
+
+    private static TaskBatch batch(final int from, final int to, final long deadline) {
+        return TaskBatch.newBuilder().setFrom(from).setTo(to).setDeadline(deadline).build();
+    }
+}
@@ -0,0 +1,99 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.actor.Address;
+import akka.actor.ActorSelection;
+import akka.actor.ActorSystem;
+import akka.routing.ActorSelectionRoutee;
+import akka.routing.Routee;
+import akka.testkit.javadsl.TestKit;
+import com.typesafe.config.ConfigFactory;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.NodeLoad;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.IndexedSeq;
+
+import java.util.Arrays;
+
+/**
+ * Tests for {@link AdaptiveRoutingLogic} and {@link ClusterLoad}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class AdaptiveRoutingLogicTest {
+
+    private static final Address SELF = new Address("akka.tcp", "AkkaTESTSystem", "self", 2551);
+
+    private static final Address BUSY = new Address("akka.tcp", "AkkaTESTSystem", "busy", 2551);
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setup() {
+        // remote provider, so the selections of the other nodes keep their addresses
+        system = ActorSystem.create("AkkaTESTSystem", ConfigFactory.parseString(
+                "akka.actor.provider=remote\n" +
+                        "akka.remote.netty.tcp.port=0\n" +
+                        "akka.remote.artery.canonical.port=0"));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void capacity() {
+        final NodeLoad idle = NodeLoad.newBuilder().setCpus(2).build();
+        final NodeLoad loaded = NodeLoad.newBuilder().setCpus(2).setCpu(1).setHeap(0.5).setBacklog(2).build();
+        Assert.assertEquals(2, ClusterLoad.capacity(idle), 0.001);
+        Assert.assertEquals(2 * (0 + 0.5 + 0.5) / 3, ClusterLoad.capacity(loaded), 0.001);
+        // the bigger node has more capacity with the same load
+        Assert.assertTrue(ClusterLoad.capacity(idle.toBuilder().setCpus(4).build()) > ClusterLoad.capacity(idle));
+    }
+
+    @Test
+    public void weighted() {
+        final ClusterLoad load = new ClusterLoad(60000, 1);
+        load.update(NodeLoad.newBuilder().setAddress(SELF.toString()).setCpus(1).build());
+        load.update(NodeLoad.newBuilder().setAddress(BUSY.toString()).setCpus(1).setCpu(1).setHeap(1).setBacklog(99).build());
+        final AdaptiveRoutingLogic logic = new AdaptiveRoutingLogic(load, SELF);
+        // the local routee has no host in its address
+        final Routee local = routee("/user/workerActor");
+        final Routee busy = routee(BUSY + "/user/workerActor");
+        final IndexedSeq<Routee> routees = JavaConverters.asScalaBuffer(Arrays.asList(local, busy)).toIndexedSeq();
+
+        int toBusy = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (logic.select("task", routees) == busy) {
+                toBusy++;
+            }
+        }
+        // the busy node has 0.01 / 1.01 of the capacity
+        Assert.assertTrue("Busy node got " + toBusy, toBusy > 0 && toBusy < 500);
+    }
+
+    @Test
+    public void unknownLoad() {
+        final AdaptiveRoutingLogic logic = new AdaptiveRoutingLogic(new ClusterLoad(60000, 1), SELF);
+        final Routee first = routee("/user/workerActor");
+        final IndexedSeq<Routee> routees = JavaConverters.asScalaBuffer(Arrays.asList(first, routee(BUSY + "/user/workerActor")))
+                .toIndexedSeq();
+
+        int toFirst = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (logic.select("task", routees) == first) {
+                toFirst++;
+            }
+        }
+        // without any load known the routees are picked evenly
+        Assert.assertTrue("First routee got " + toFirst, toFirst > 4000 && toFirst < 6000);
+    }
+
+    private static Routee routee(final String path) {
+        final ActorSelection selection = system.actorSelection(path);
+        return new ActorSelectionRoutee(selection);
+    }
+}
@@ -0,0 +1,78 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import akka.routing.ConsistentHash;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tests for {@link TaskHashMapper}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class TaskHashMapperTest {
+
+    private final TaskHashMapper mapper = new TaskHashMapper();
+
+    @Test
+    public void key() {
+        final TaskBatch first = batch(10000).setFrom(0).setTo(100).build();
+        final TaskBatch second = batch(10000).setFrom(100).setTo(200).build();
+        // the chunks of a request without a key spread, the same chunk of the same computation does not
+        Assert.assertFalse(Arrays.equals((byte[]) mapper.hashKey(first), (byte[]) mapper.hashKey(second)));
+        Assert.assertArrayEquals((byte[]) mapper.hashKey(first), (byte[]) mapper.hashKey(first.toBuilder().build()));
+        Assert.assertFalse(Arrays.equals((byte[]) mapper.hashKey(first),
+                (byte[]) mapper.hashKey(batch(20000).setFrom(0).setTo(100).build())));
+        // the hedge has its own key
+        Assert.assertFalse(Arrays.equals((byte[]) mapper.hashKey(first),
+                (byte[]) mapper.hashKey(first.toBuilder().setAttempt(1).build())));
+        Assert.assertNull(mapper.hashKey("unknown"));
+    }
+
+    @Test
+    public void keyedWork() {
+        final TaskBatch first = batch(10000).setKey("customer-1").setFrom(0).setTo(100).build();
+        // all the work of the key shares the node
+        Assert.assertArrayEquals((byte[]) mapper.hashKey(first),
+                (byte[]) mapper.hashKey(batch(20000).setKey("customer-1").setFrom(100).setTo(200).build()));
+        Assert.assertFalse(Arrays.equals((byte[]) mapper.hashKey(first),
+                (byte[]) mapper.hashKey(first.toBuilder().setKey("customer-2").build())));
+    }
+
+    @Test
+    public void requestsSpread() {
+        final ConsistentHash<String> ring = ConsistentHash.create(Arrays.asList("node-1", "node-2", "node-3", "node-4"), 10);
+        final Set<String> nodes = new HashSet<>();
+        // the chunks of the default request
+        for (int from = 0; from < 1000; from += 100) {
+            nodes.add(ring.nodeFor((byte[]) mapper.hashKey(batch(10000).setFrom(from).setTo(from + 100).build())));
+        }
+        Assert.assertTrue("Nodes " + nodes, nodes.size() > 1);
+    }
+
+    @Test
+    public void fewKeysMoveOnMembershipChange() {
+        final ConsistentHash<String> ring = ConsistentHash.create(Arrays.asList("node-1", "node-2", "node-3", "node-4"), 10);
+        final ConsistentHash<String> grown = ring.add("node-5");
+        int moved = 0;
+        for (int n = 0; n < 1000; n++) {
+            final byte[] key = (byte[]) mapper.hashKey(batch(n).build());
+            if (!ring.nodeFor(key).equals(grown.nodeFor(key))) {
+                moved++;
+            }
+        }
+        // ideally 1/5 of the keys move to the new node
+        Assert.assertTrue("Moved " + moved, moved > 0 && moved < 400);
+    }
+
+    private static TaskBatch.Builder batch(final int n) {
+        return TaskBatch.newBuilder()
+                .setComputation(Computation.newBuilder().setFactorial(Factorial.newBuilder().setN(n)));
+    }
+}
@@ -0,0 +1,67 @@
+package mykhalishyn.akka.cluster.demo.routing;
+
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Computation;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Factorial;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.Task;
+import mykhalishyn.akka.cluster.demo.actor.MessageProto.TaskBatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tests for {@link TaskMessageExtractor}
+ *
+ * @author dmihalishin@gmail.com
+ */
+public class TaskMessageExtractorTest {
+
+    private final TaskMessageExtractor extractor = new TaskMessageExtractor(10);
+
+    @Test
+    public void entityId() {
+        final TaskBatch keyed = TaskBatch.newBuilder().setFrom(100).setTo(200).setKey("customer-42").build();
+        // all the chunks of a key go to its entity, the hedges to another one
+        Assert.assertEquals("customer-42", extractor.entityId(keyed));
+        Assert.assertEquals("customer-42", extractor.entityId(keyed.toBuilder().setFrom(0).build()));
+        Assert.assertEquals("customer-42#1", extractor.entityId(keyed.toBuilder().setFrom(0).setAttempt(1).build()));
+        Assert.assertEquals(extractor.shardId(keyed), extractor.shardId(keyed.toBuilder().setFrom(0).build()));
+
+        Assert.assertTrue(extractor.entityId(keyed.toBuilder().clearKey().build()).startsWith("bucket-"));
+        Assert.assertTrue(extractor.entityId(Task.newBuilder().setIndex(7).build()).startsWith("bucket-"));
+        // the value of a computation is asked from the entity that likely cached it
+        final Task value = Task.newBuilder().setIndex(7).setStreamValue(true).build();
+        Assert.assertEquals(extractor.entityId(value), extractor.entityId(value.toBuilder().setIndex(8).build()));
+        Assert.assertNull(extractor.entityId("unknown"));
+    }
+
+    @Test
+    public void valueEntityIsStable() {
+        final Task value = Task.newBuilder()
+                .setComputation(Computation.newBuilder().setFactorial(Factorial.newBuilder().setN(30)))
+                .setStreamValue(true)
+                .build();
+        // the same on every node and after every restart
+        Assert.assertEquals("value-3cf252", extractor.entityId(value));
+    }
+
+    @Test
+    public void unkeyedRequestsSpread() {
+        final Set<String> entities = new HashSet<>();
+        // the first chunk of many requests
+        for (long request = 0; request < 1000; request++) {
+            entities.add(extractor.entityId(TaskBatch.newBuilder().setRequestId(request).setFrom(0).setTo(100).build()));
+        }
+        // the bucket entities are bounded by the amount of the shards, and all of them are used
+        Assert.assertEquals(10, entities.size());
+    }
+
+    @Test
+    public void shardId() {
+        for (int from = 0; from < 100; from++) {
+            final int shard = Integer.parseInt(extractor.shardId(TaskBatch.newBuilder().setFrom(from).build()));
+            Assert.assertTrue(shard >= 0 && shard < 10);
+        }
+    }
+}